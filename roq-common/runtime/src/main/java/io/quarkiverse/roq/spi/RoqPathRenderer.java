@@ -0,0 +1,29 @@
+package io.quarkiverse.roq.spi;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Renders site paths directly in the application, without going through the HTTP server.
+ * <p>
+ * Beans implementing this interface are used by the Roq Generator (when in-process rendering is enabled) to
+ * skip the HTTP round trip for the paths they own. Paths which are not handled by any renderer are still fetched
+ * through HTTP.
+ */
+public interface RoqPathRenderer {
+
+    /**
+     * @param path the path starting with / (without the root-path)
+     * @return true if this renderer is able to render the given path
+     */
+    boolean handles(String path);
+
+    /**
+     * Render the content for the given path.
+     * <p>
+     * Only called for paths where {@link #handles(String)} returned true, this may block.
+     *
+     * @param path the path starting with / (without the root-path)
+     * @return the rendered content
+     */
+    CompletionStage<String> render(String path);
+}
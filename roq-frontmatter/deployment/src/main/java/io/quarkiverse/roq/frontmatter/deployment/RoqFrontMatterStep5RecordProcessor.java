@@ -26,20 +26,26 @@ import io.quarkiverse.roq.frontmatter.deployment.items.record.RoqFrontMatterReco
 import io.quarkiverse.roq.frontmatter.deployment.items.record.RoqFrontMatterRecordedNormalPageBuildItem;
 import io.quarkiverse.roq.frontmatter.deployment.items.record.RoqFrontMatterRecordedPageBuildItem;
 import io.quarkiverse.roq.frontmatter.deployment.items.record.RoqFrontMatterRecordedSiteIndexBuildItem;
+import io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterPathRenderer;
 import io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterRecorder;
+import io.quarkiverse.roq.frontmatter.runtime.RoqPageDataIndex;
 import io.quarkiverse.roq.frontmatter.runtime.config.ConfiguredCollection;
 import io.quarkiverse.roq.frontmatter.runtime.config.RoqSiteConfig;
 import io.quarkiverse.roq.frontmatter.runtime.model.*;
+import io.quarkiverse.roq.spi.RoqPathRenderer;
 import io.quarkiverse.tools.stringpaths.StringPaths;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
 import io.quarkus.deployment.annotations.*;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.runtime.HandlerType;
+import io.vertx.core.json.JsonObject;
 
 // Records runtime objects via the Quarkus recorder pattern.
 // All @Record methods here run at STATIC_INIT (build time) to create Supplier-based
@@ -81,10 +87,14 @@ class RoqFrontMatterStep5RecordProcessor {
             List<RoqFrontMatterPublishDerivedCollectionBuildItem> generatedCollections,
             BuildProducer<RoqFrontMatterRecordedCollectionBuildItem> collectionsProducer,
             BuildProducer<RoqFrontMatterRecordedPageBuildItem> pagesProducer,
+            BuildProducer<GeneratedResourceBuildItem> generatedResourceProducer,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResourceProducer,
+            RoqSiteConfig config,
             RoqFrontMatterRecorder recorder) {
         if (rootUrlItem == null) {
             return;
         }
+        final PageDataIndex dataIndex = PageDataIndex.create(config, recorder, "documents");
 
         // Published collections
         final Map<ConfiguredCollection, List<RoqFrontMatterPublishDocumentPageBuildItem>> byCollection = documents.stream()
@@ -94,9 +104,12 @@ class RoqFrontMatterStep5RecordProcessor {
             List<Supplier<DocumentPage>> docs = new ArrayList<>();
             for (RoqFrontMatterPublishDocumentPageBuildItem item : e.getValue()) {
                 final RoqUrl url = item.url();
-                final Supplier<DocumentPage> document = recorder.createDocument(item.collection().id(),
-                        url,
-                        item.source(), new EncodedJson(item.data()), item.collection().hidden());
+                final Supplier<DocumentPage> document = dataIndex != null
+                        ? recorder.createIndexedDocument(item.collection().id(), url, item.source(),
+                                dataIndex.index(), dataIndex.add(item.data()), item.collection().hidden())
+                        : recorder.createDocument(item.collection().id(),
+                                url,
+                                item.source(), new EncodedJson(item.data()), item.collection().hidden());
                 documentsById.put(item.source().id(), document);
                 pagesProducer
                         .produce(
@@ -106,6 +119,9 @@ class RoqFrontMatterStep5RecordProcessor {
             }
             collectionsProducer.produce(new RoqFrontMatterRecordedCollectionBuildItem(e.getKey(), docs));
         }
+        if (dataIndex != null) {
+            dataIndex.produce(generatedResourceProducer, nativeImageResourceProducer);
+        }
 
         // Derived collections (referencing existing documents)
         for (RoqFrontMatterPublishDerivedCollectionBuildItem i : generatedCollections) {
@@ -130,14 +146,21 @@ class RoqFrontMatterStep5RecordProcessor {
             BuildProducer<RoqFrontMatterRecordedNormalPageBuildItem> normalPagesProducer,
             BuildProducer<RoqFrontMatterRecordedPageBuildItem> pagesProducer,
             BuildProducer<RoqFrontMatterRecordedSiteIndexBuildItem> indexPageProducer,
+            BuildProducer<GeneratedResourceBuildItem> generatedResourceProducer,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResourceProducer,
+            RoqSiteConfig config,
             RoqFrontMatterRecorder recorder) {
         if (rootUrlItem == null) {
             return;
         }
+        final PageDataIndex dataIndex = PageDataIndex.create(config, recorder, "pages");
         List<RoqFrontMatterPublishNormalPageBuildItem> siteIndexPages = new ArrayList<>();
         for (RoqFrontMatterPublishNormalPageBuildItem page : pages) {
-            final Supplier<NormalPage> recordedPage = recorder.createPage(page.url(),
-                    page.source(), new EncodedJson(page.data()), page.paginator());
+            final Supplier<NormalPage> recordedPage = dataIndex != null
+                    ? recorder.createIndexedPage(page.url(), page.source(), dataIndex.index(), dataIndex.add(page.data()),
+                            page.paginator())
+                    : recorder.createPage(page.url(),
+                            page.source(), new EncodedJson(page.data()), page.paginator());
             pagesProducer.produce(new RoqFrontMatterRecordedPageBuildItem(page.source().id(), page.url(), false, recordedPage));
             normalPagesProducer
                     .produce(new RoqFrontMatterRecordedNormalPageBuildItem(page.source().id(), page.url(), recordedPage));
@@ -148,6 +171,9 @@ class RoqFrontMatterStep5RecordProcessor {
                 }
             }
         }
+        if (dataIndex != null) {
+            dataIndex.produce(generatedResourceProducer, nativeImageResourceProducer);
+        }
         if (siteIndexPages.size() > 1) {
             String paths = siteIndexPages.stream()
                     .map(p -> "'" + p.source().path() + "'")
@@ -229,6 +255,13 @@ class RoqFrontMatterStep5RecordProcessor {
             }
             allPagesByPath.put(i.url().resourcePath(), i.page());
         }
+        // Allow the Roq Generator to render pages in-process
+        beansProducer.produce(SyntheticBeanBuildItem.configure(RoqFrontMatterPathRenderer.class)
+                .addType(RoqPathRenderer.class)
+                .scope(Singleton.class)
+                .unremovable()
+                .supplier(recorder.createPathRenderer(allPagesByPath))
+                .done());
         return new RoqFrontMatterOutputBuildItem(allPagesByPath);
     }
 
@@ -253,4 +286,43 @@ class RoqFrontMatterStep5RecordProcessor {
                 .build();
         return List.of(resolverRoute, renderRoute);
     }
+
+    /**
+     * Collects the data of the recorded pages into a {@link RoqPageDataIndex} resource.
+     */
+    private static final class PageDataIndex {
+        private final String resource;
+        private final Supplier<RoqPageDataIndex> index;
+        private final List<JsonObject> data = new ArrayList<>();
+
+        private PageDataIndex(String resource, RoqFrontMatterRecorder recorder) {
+            this.resource = resource;
+            this.index = recorder.pageDataIndex(resource);
+        }
+
+        static PageDataIndex create(RoqSiteConfig config, RoqFrontMatterRecorder recorder, String name) {
+            if (!config.pageDataIndex().enabled()) {
+                return null;
+            }
+            return new PageDataIndex(RoqPageDataIndex.RESOURCE_PREFIX + name + ".bin", recorder);
+        }
+
+        Supplier<RoqPageDataIndex> index() {
+            return index;
+        }
+
+        /**
+         * @return the slot of the page data in the index
+         */
+        int add(JsonObject pageData) {
+            data.add(pageData);
+            return data.size() - 1;
+        }
+
+        void produce(BuildProducer<GeneratedResourceBuildItem> generatedResourceProducer,
+                BuildProducer<NativeImageResourceBuildItem> nativeImageResourceProducer) {
+            generatedResourceProducer.produce(new GeneratedResourceBuildItem(resource, RoqPageDataIndex.write(data)));
+            nativeImageResourceProducer.produce(new NativeImageResourceBuildItem(resource));
+        }
+    }
 }
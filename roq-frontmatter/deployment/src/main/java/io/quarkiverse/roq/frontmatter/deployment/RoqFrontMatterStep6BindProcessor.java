@@ -1,5 +1,7 @@
 package io.quarkiverse.roq.frontmatter.deployment;
 
+import static io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterTemplateUtils.staticContent;
+import static io.quarkiverse.roq.frontmatter.runtime.RoqTemplates.ROQ_STATIC_CONTENT_PREFIX;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqTemplates.isLayoutSourceTemplate;
 import static io.quarkiverse.tools.stringpaths.StringPaths.addTrailingSlash;
 import static io.quarkiverse.tools.stringpaths.StringPaths.prefixWithSlash;
@@ -109,6 +111,10 @@ public class RoqFrontMatterStep6BindProcessor {
                                 .extensionInfo(FEATURE)
                                 .build());
 
+                if (item.raw().templateSource().hasPrerenderedContent()) {
+                    createStaticContentResource(generatedResourceProducer, nativeImageResourceProducer, item);
+                }
+
                 if (item.raw().collection() != null) {
                     docTemplates.add(item.raw().templateSource().generatedQuteTemplateId());
                 } else {
@@ -158,6 +164,21 @@ public class RoqFrontMatterStep6BindProcessor {
 
     }
 
+    private void createStaticContentResource(BuildProducer<GeneratedResourceBuildItem> generatedResourceProducer,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResourceProducer,
+            RoqFrontMatterPageTemplateBuildItem item) {
+        final String content = staticContent(item.raw().generatedTemplate());
+        if (content == null) {
+            // Page rendered at runtime
+            return;
+        }
+        LOGGER.debugf("Roq pre-rendered the content of page '%s'", item.raw().id());
+        final String resourceName = ROQ_STATIC_CONTENT_PREFIX + item.raw().templateSource().generatedQuteTemplateId();
+        generatedResourceProducer.produce(new GeneratedResourceBuildItem(resourceName,
+                content.getBytes(StandardCharsets.UTF_8)));
+        nativeImageResourceProducer.produce(new NativeImageResourceBuildItem(resourceName));
+    }
+
     private void createTemplateResource(BuildProducer<GeneratedResourceBuildItem> generatedResourceProducer,
             BuildProducer<NativeImageResourceBuildItem> nativeImageResourceProducer, Path filePath,
             String generatedTemplate, String generatedQuteTemplateId) throws IOException {
@@ -3,6 +3,7 @@ package io.quarkiverse.roq.frontmatter.deployment.util;
 import static io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterLayoutUtils.resolveDefaultLayout;
 import static io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterTemplateUtils.applyContentTransforms;
 import static io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterTemplateUtils.getMarkup;
+import static io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterTemplateUtils.staticContent;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.ESCAPE;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.LAYOUT;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.QUTE;
@@ -19,6 +20,7 @@ import io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterTemplateUtil
 import io.quarkiverse.roq.frontmatter.runtime.config.ConfiguredCollection;
 import io.quarkiverse.roq.frontmatter.runtime.config.RoqSiteConfig;
 import io.quarkiverse.roq.frontmatter.runtime.model.TemplateSource;
+import io.quarkus.qute.ParserConfig;
 import io.vertx.core.json.JsonObject;
 
 public final class RoqFrontMatterAssembleUtils {
@@ -73,6 +75,10 @@ public final class RoqFrontMatterAssembleUtils {
         boolean escaped = Boolean.parseBoolean(data.getString(ESCAPE, "false"))
                 || "false".equals(data.getString(QUTE));
         TransformedContent transformed = applyContentTransforms(content, escaped, metadata.markup(), layoutId, isPage);
+        // Only the content rendered with the default syntax can be pre-rendered
+        boolean prerendered = isPage && config.prerenderStaticContent()
+                && (metadata.parserConfig() == null || ParserConfig.DEFAULT.equals(metadata.parserConfig()))
+                && staticContent(transformed.generatedTemplate()) != null;
 
         TemplateSource source = TemplateSource.create(
                 metadata.templateId(),
@@ -83,7 +89,8 @@ public final class RoqFrontMatterAssembleUtils {
                 !isPage,
                 metadata.isHtml(),
                 isIndex,
-                isSiteIndex);
+                isSiteIndex,
+                prerendered);
 
         return new ProcessedTemplate(source, layoutId, data,
                 transformed.generatedTemplate());
@@ -2,6 +2,7 @@ package io.quarkiverse.roq.frontmatter.deployment.util;
 
 import static io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterConstants.FRONTMATTER_PATTERN;
 import static io.quarkiverse.roq.frontmatter.deployment.util.RoqFrontMatterLayoutUtils.getIncludeFilter;
+import static io.quarkiverse.roq.frontmatter.runtime.RoqTemplates.ROQ_PAGE_CONTENT_FRAGMENT;
 import static io.quarkiverse.tools.stringpaths.StringPaths.removeExtension;
 import static io.quarkiverse.tools.stringpaths.StringPaths.toUnixPath;
 
@@ -22,6 +23,8 @@ import io.vertx.core.json.JsonObject;
 public final class RoqFrontMatterTemplateUtils {
 
     private static final WrapperFilter ESCAPE_FILTER = new WrapperFilter("{|", "|}");
+    private static final String CONTENT_FRAGMENT_START = "{#fragment %s}\n".formatted(ROQ_PAGE_CONTENT_FRAGMENT);
+    private static final String CONTENT_FRAGMENT_END = "{/fragment}\n{/include}";
     private static final Pattern COMPLETE_HTML_PATTERN = Pattern.compile("^\\s*(?:<!--.*?-->\\s*)*(<!doctype|<html)",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
@@ -155,4 +158,34 @@ public final class RoqFrontMatterTemplateUtils {
         String generatedTemplate = includeFilter.apply(contentWithMarkup);
         return new TransformedContent(generatedTemplate);
     }
+
+    /**
+     * Pre-render the content fragment of a generated page template when it doesn't contain any Qute expression or
+     * section (e.g. plain or escaped html), it would render as is.
+     *
+     * @return the rendered content or null if it has to be rendered at runtime
+     */
+    public static String staticContent(String generatedTemplate) {
+        String content = generatedTemplate;
+        if (content.startsWith("{#include ")) {
+            final int start = content.indexOf('\n') + 1;
+            if (start == 0 || !content.startsWith(CONTENT_FRAGMENT_START, start)
+                    || !content.endsWith(CONTENT_FRAGMENT_END)) {
+                return null;
+            }
+            // The standalone section lines are removed
+            content = content.substring(start + CONTENT_FRAGMENT_START.length(),
+                    content.length() - CONTENT_FRAGMENT_END.length());
+        }
+        if (content.indexOf('{') < 0) {
+            return content;
+        }
+        if (content.startsWith("{|")) {
+            final int end = content.indexOf("|}");
+            if (end > 0 && content.indexOf('{', end) < 0) {
+                return content.substring(2, end) + content.substring(end + 2);
+            }
+        }
+        return null;
+    }
 }
@@ -2,6 +2,7 @@ package io.quarkiverse.roq.frontmatter.deployment.apptest;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -128,6 +129,19 @@ public class RoqFrontMatterBasicTest {
         assertTrue(body.contains("Override post content"), "Should contain the main post content");
     }
 
+    @Test
+    @DisplayName("Page has a content ETag and answers 304 when it matches")
+    public void testETag() {
+        String etag = RestAssured.when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                .header("ETag", matchesPattern("\"[0-9a-f]{32}\""))
+                .extract().header("ETag");
+        RestAssured.given().header("If-None-Match", etag)
+                .when().get("/page/some-page").then().statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"foo\"")
+                .when().get("/page/some-page").then().statusCode(200)
+                .header("ETag", equalTo(etag));
+    }
+
     @Test
     @DisplayName("Normal page without date has null date")
     public void testNormalPageNullDate() {
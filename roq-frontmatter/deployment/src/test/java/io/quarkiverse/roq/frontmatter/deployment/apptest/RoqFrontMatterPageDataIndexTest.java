@@ -0,0 +1,58 @@
+package io.quarkiverse.roq.frontmatter.deployment.apptest;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+/**
+ * Site: {@code basic-site} (resource)
+ * <p>
+ * Config: page-data-index enabled
+ * <p>
+ * Features tested: pages, documents and collections rendered with the data read from the page data index.
+ */
+@DisplayName("Roq FrontMatter - Page data index")
+public class RoqFrontMatterPageDataIndexTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .overrideConfigKey("quarkus.roq.resource-dir", "basic-site")
+            .overrideConfigKey("quarkus.default-locale", "en")
+            .overrideConfigKey("site.time-zone", "UTC")
+            .overrideConfigKey("site.page-data-index.enabled", "true")
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("basic-site"));
+
+    @Test
+    @DisplayName("Page renders with the data from the index")
+    public void testPage() {
+        RestAssured.when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                .body("html.head.title", equalTo("Some page - Simple Site"))
+                .body("html.body.article.h1", equalTo("Some page"))
+                .body("html.body.article.p", equalTo("We can also use data"));
+    }
+
+    @Test
+    @DisplayName("Document renders with the data from the index")
+    public void testPost() {
+        RestAssured.when().get("/the-posts/new-post").then().statusCode(200).log().ifValidationFails()
+                .body("html.head.title", equalTo("New Post - Simple Site"))
+                .body("html.body.article.h1", equalTo("New post with html"))
+                .body("html.body.article.p", equalTo("This is a new post."));
+    }
+
+    @Test
+    @DisplayName("Site index lists the collection documents in order")
+    public void testIndex() {
+        RestAssured.when().get("/").then().statusCode(200).log().ifValidationFails()
+                .body("html.head.title", equalTo("Simple Site"))
+                .body("html.body.div.h1[0]", containsString("Override Post"))
+                .body("html.body.div.h1[1]", containsString("New Post"));
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkiverse.roq.frontmatter.deployment.apptest;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.equalToIgnoringCase;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+/**
+ * Site: {@code basic-site} (resource)
+ * <p>
+ * Config: render-cache enabled, HTTP compression enabled
+ * <p>
+ * Features tested: rendered pages served from the cache, pre-compressed variant selected with Accept-Encoding,
+ * Vary on Accept-Language when the locale is negotiated.
+ */
+@DisplayName("Roq FrontMatter - Render cache")
+public class RoqFrontMatterRenderCacheTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .overrideConfigKey("quarkus.roq.resource-dir", "basic-site")
+            .overrideConfigKey("quarkus.http.enable-compression", "true")
+            .overrideConfigKey("site.time-zone", "UTC")
+            .overrideConfigKey("site.render-cache.enabled", "true")
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("basic-site"));
+
+    @Test
+    @DisplayName("Cached page is served gzipped when accepted")
+    public void testGzip() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            byte[] body = RestAssured.given()
+                    .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                    .header("Accept-Encoding", "gzip")
+                    .when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                    .header("Content-Encoding", equalTo("gzip"))
+                    .header("Vary", equalToIgnoringCase("Accept-Encoding"))
+                    .extract().asByteArray();
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                assertTrue(new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                        .contains("Some page - Simple Site"));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cached page answers 304 for the ETag of the served representation")
+    public void testETag() {
+        String etag = RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip")
+                .when().get("/page/some-page").then().statusCode(200)
+                .header("ETag", endsWith("-gzip\""))
+                .extract().header("ETag");
+        RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag)
+                .when().get("/page/some-page").then().statusCode(304);
+        RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip;q=0")
+                .header("If-None-Match", etag)
+                .when().get("/page/some-page").then().statusCode(200);
+    }
+
+    @Test
+    @DisplayName("Cached page is served uncompressed when gzip is not accepted")
+    public void testIdentity() {
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given()
+                    .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                    .header("Accept-Encoding", "gzip;q=0")
+                    .when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                    .header("Content-Encoding", nullValue())
+                    // Vert.x may still compress the body with another encoding
+                    .header("ETag", startsWith("W/\""))
+                    .body("html.head.title", equalTo("Some page - Simple Site"));
+        }
+    }
+
+    @Test
+    @DisplayName("Cached page varies on Accept-Language when the locale comes from the request")
+    public void testVaryLanguage() {
+        for (int i = 0; i < 2; i++) {
+            List<String> vary = RestAssured.given()
+                    .header("Accept-Language", "FR-fr")
+                    .when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                    .extract().headers().getValues("Vary");
+            assertTrue(vary.contains("Accept-Language"), vary::toString);
+        }
+        List<String> vary = RestAssured.when().get("/page/some-page").then().statusCode(200)
+                .extract().headers().getValues("Vary");
+        assertFalse(vary.contains("Accept-Language"), vary::toString);
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.quarkiverse.roq.frontmatter.deployment.apptest;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+/**
+ * Site: {@code basic-site} (resource)
+ * <p>
+ * Config: stateless-pages enabled
+ * <p>
+ * Features tested: pages rendered without request context activation.
+ */
+@DisplayName("Roq FrontMatter - Stateless pages")
+public class RoqFrontMatterStatelessPagesTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .overrideConfigKey("quarkus.roq.resource-dir", "basic-site")
+            .overrideConfigKey("site.time-zone", "UTC")
+            .overrideConfigKey("site.stateless-pages", "true")
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("basic-site"));
+
+    @Test
+    @DisplayName("Page renders on the fast path")
+    public void testPage() {
+        RestAssured.when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                .body("html.head.title", equalTo("Some page - Simple Site"))
+                .body("html.body.article.p", equalTo("We can also use data"));
+    }
+
+    @Test
+    @DisplayName("Index renders on the fast path")
+    public void testIndex() {
+        RestAssured.when().get("/").then().statusCode(200).log().ifValidationFails()
+                .body("html.body.div.h1[0]", containsString("Override Post"));
+    }
+
+    @Test
+    @DisplayName("Unknown page is not found")
+    public void testNotFound() {
+        RestAssured.when().get("/page/unknown").then().statusCode(404);
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.quarkiverse.roq.frontmatter.deployment.apptest;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+/**
+ * Site: {@code basic-site} (resource)
+ * <p>
+ * Config: streaming-render enabled, HTTP compression enabled
+ * <p>
+ * Features tested: pages streamed to the response while rendered, with the same Vary headers as rendered pages.
+ */
+@DisplayName("Roq FrontMatter - Streaming render")
+public class RoqFrontMatterStreamingRenderTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .overrideConfigKey("quarkus.roq.resource-dir", "basic-site")
+            .overrideConfigKey("site.time-zone", "UTC")
+            .overrideConfigKey("site.streaming-render", "true")
+            .overrideConfigKey("quarkus.http.enable-compression", "true")
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("basic-site"));
+
+    @Test
+    @DisplayName("Page is streamed without ETag")
+    public void testPage() {
+        RestAssured.when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                .header("ETag", nullValue())
+                .body("html.head.title", equalTo("Some page - Simple Site"))
+                .body("html.body.article.h1", equalTo("Some page"));
+    }
+
+    @Test
+    @DisplayName("Page including other pages content is streamed completely")
+    public void testPageContent() {
+        String body = RestAssured.when().get("/page/content-test").then().statusCode(200).log().ifValidationFails()
+                .extract().body().asString();
+        assertTrue(body.contains("New post with html"));
+        assertTrue(body.contains("This post uses an insert override."));
+        assertTrue(body.trim().endsWith("</html>"));
+    }
+
+    @Test
+    @DisplayName("Streamed page varies on Accept-Encoding and Accept-Language")
+    public void testVary() {
+        List<String> vary = RestAssured.given()
+                .header("Accept-Language", "fr")
+                .when().get("/page/some-page").then().statusCode(200).log().ifValidationFails()
+                .extract().headers().getValues("Vary");
+        assertTrue(vary.contains("Accept-Encoding"), vary::toString);
+        assertTrue(vary.contains("Accept-Language"), vary::toString);
+    }
+
+}
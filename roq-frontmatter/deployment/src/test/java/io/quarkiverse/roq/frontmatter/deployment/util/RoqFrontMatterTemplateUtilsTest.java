@@ -178,4 +178,37 @@ public class RoqFrontMatterTemplateUtilsTest {
         assertEquals("content", filter.apply("content"),
                 "Non-escaped content should not be modified");
     }
+
+    // ── staticContent ───────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Content without Qute expressions is pre-rendered")
+    void staticContentPlain() {
+        assertEquals("<p>Hello</p>\n",
+                RoqFrontMatterTemplateUtils.staticContent(page("post", "<p>Hello</p>", false)));
+        assertEquals("<p>Hello}</p>",
+                RoqFrontMatterTemplateUtils.staticContent(page(null, "<p>Hello}</p>", false)));
+    }
+
+    @Test
+    @DisplayName("Escaped content is pre-rendered")
+    void staticContentEscaped() {
+        assertEquals("<p>{page.title}</p>\n",
+                RoqFrontMatterTemplateUtils.staticContent(page("post", "<p>{page.title}</p>", true)));
+        assertEquals("<p>{#if}</p>",
+                RoqFrontMatterTemplateUtils.staticContent(page(null, "<p>{#if}</p>", true)));
+    }
+
+    @Test
+    @DisplayName("Content with Qute expressions or markup is rendered at runtime")
+    void staticContentDynamic() {
+        assertNull(RoqFrontMatterTemplateUtils.staticContent(page("post", "<p>{page.title}</p>", false)));
+        assertNull(RoqFrontMatterTemplateUtils.staticContent(page(null, "{#markdown}\n# Hello\n{/markdown}", false)));
+        assertNull(RoqFrontMatterTemplateUtils.staticContent("{#include foo}\n<p>Hello</p>\n{/include}"));
+    }
+
+    private static String page(String layout, String content, boolean escaped) {
+        return RoqFrontMatterTemplateUtils.applyContentTransforms(content, escaped, null,
+                layout, true).generatedTemplate();
+    }
 }
@@ -2,6 +2,7 @@ package io.quarkiverse.roq.frontmatter.deployment.util;
 
 import static io.quarkiverse.roq.frontmatter.runtime.utils.TemplateLink.pageLink;
 import static io.quarkiverse.roq.frontmatter.runtime.utils.TemplateLink.paginateLink;
+import static io.quarkiverse.roq.frontmatter.runtime.utils.TemplateLink.resolvePattern;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -9,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,7 +29,7 @@ import io.vertx.core.json.JsonObject;
  * <p>
  * Features tested: link pattern resolution with date placeholders (:year, :month, :day),
  * slug/name generation, file extension handling, pagination links, case variants,
- * directory index pages, invalid placeholder detection.
+ * directory index pages, invalid placeholder detection, placeholders followed by a dash, pattern resolution.
  */
 @DisplayName("Roq FrontMatter - Template link pattern resolution")
 class TemplateLinkTest {
@@ -355,6 +357,36 @@ class TemplateLinkTest {
         assertDoesNotThrow(() -> pageLink("", "/posts/blog.html", data));
     }
 
+    @Test
+    void testPlaceholdersFollowedByDash() {
+        JsonObject frontMatter = new JsonObject().put("title", "My First Blog Post");
+        final PageSource templateSource = createPageSource("posts/my-first-blog-post.md", true, false);
+        PageLinkData data = new PageLinkData(templateSource, "posts", frontMatter);
+
+        assertEquals("posts/2024-08-27/", pageLink("", ":collection/:year-:month-:day", data));
+        assertEquals("2024/posts-2024/", pageLink("", ":year/:collection-:year", data));
+    }
+
+    @Test
+    void testDuplicatedSlashesAndIndex() {
+        JsonObject frontMatter = new JsonObject().put("title", "My First Blog Post");
+        final PageSource templateSource = createPageSource("posts/my-first-blog-post.md", true, false);
+        PageLinkData data = new PageLinkData(templateSource, "posts", frontMatter);
+
+        assertEquals("posts/2024/", pageLink("", "//:collection///:year/index.html", data));
+        assertEquals("posts/", pageLink("", ":collection/index", data));
+    }
+
+    @Test
+    void testResolvePattern() {
+        assertEquals("2024-08-27-my-first-blog",
+                resolvePattern(":date-:slug~3", Map.of(":date", "2024-08-27", ":slug", "my-first-blog-post")));
+        assertEquals("2024/08/my-first-blog-post.md",
+                resolvePattern(":year/:month/:slug.md",
+                        Map.of(":year", "2024", ":month", "08", ":slug", "my-first-blog-post")));
+        assertThrows(RoqTemplateLinkException.class, () -> resolvePattern(":date-:title", Map.of(":date", "2024")));
+    }
+
     private PageSource createPageSource(String path, boolean isTargetHtml, boolean isIndex) {
         TemplateSource templateSource = TemplateSource.create(
                 path,
@@ -0,0 +1,109 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkiverse.roq.frontmatter.runtime.model.Page;
+
+/**
+ * Site-wide cache of the rendered page contents ({@code page.content}), weighted by their size.
+ * <p>
+ * Contents are evicted (W-TinyLFU) when the maximum size is reached, instead of being kept until the GC clears all of
+ * them at once. Concurrent requests for the same content wait for the first rendering instead of rendering it again.
+ */
+public final class RoqContentCache {
+
+    /**
+     * Same as the {@code site.content-cache.max-size} default
+     */
+    public static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+    // Tracks the renderings in progress, to know if the current thread can wait for the ones of the other threads
+    private static final ThreadLocal<int[]> RENDERING = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final boolean enabled;
+    private final Cache<String, String> cache;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public RoqContentCache(long maxBytes) {
+        this.enabled = maxBytes > 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, String content) -> weight(key) + weight(content))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return the cached content of the page, or the rendered content (which is then cached)
+     */
+    public String get(Page page, Function<Page, String> renderer) {
+        if (!enabled) {
+            return renderer.apply(page);
+        }
+        final String key = key(page);
+        final String content = cache.getIfPresent(key);
+        if (content != null) {
+            return content;
+        }
+        final CompletableFuture<String> rendering = new CompletableFuture<>();
+        final CompletableFuture<String> existing = inFlight.putIfAbsent(key, rendering);
+        final int[] depth = RENDERING.get();
+        if (existing != null) {
+            // A thread which is rendering another content doesn't wait, two renderings could wait for each other
+            return depth[0] == 0 ? await(existing) : renderer.apply(page);
+        }
+        // Not computed in the cache as rendering a content may need the content of other pages
+        depth[0]++;
+        try {
+            final String rendered = renderer.apply(page);
+            cache.put(key, rendered);
+            rendering.complete(rendered);
+            return rendered;
+        } catch (Throwable e) {
+            rendering.completeExceptionally(e);
+            throw e;
+        } finally {
+            depth[0]--;
+            inFlight.remove(key, rendering);
+        }
+    }
+
+    /**
+     * @return the hit, miss and eviction counts
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String await(CompletableFuture<String> rendering) {
+        try {
+            return rendering.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private static String key(Page page) {
+        return page.id() + '|' + page.url().resourcePath();
+    }
+
+    private static int weight(String s) {
+        // Upper bound of the memory used by the characters (ignoring compact strings)
+        return 2 * s.length();
+    }
+}
@@ -172,4 +172,25 @@ public interface RoqFrontMatterKeys {
      * ▸ Access: {@code page.data.getBoolean("qute")}
      */
     String QUTE = "qute";
+
+    // ── Serving ─────────────────────────────────────────────────────────
+
+    /**
+     * Serve the page without request context nor security identity — e.g. {@code stateless: true}
+     * (overrides {@code site.stateless-pages})
+     * <br>
+     * ▸ Scope: page / document
+     * <br>
+     * ▸ Access: {@code page.data.getBoolean("stateless")}
+     */
+    String STATELESS = "stateless";
+
+    /**
+     * Disable the caching of the rendered page and content derived data (e.g. reading time) — e.g. {@code cache: false}
+     * <br>
+     * ▸ Scope: page / document
+     * <br>
+     * ▸ Access: {@code page.data.getBoolean("cache")}
+     */
+    String CACHE = "cache";
 }
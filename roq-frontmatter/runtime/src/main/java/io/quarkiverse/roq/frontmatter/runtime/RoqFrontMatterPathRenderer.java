@@ -0,0 +1,67 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import static io.quarkiverse.roq.frontmatter.runtime.RoqPageResolverHandler.toLink;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import io.quarkiverse.roq.frontmatter.runtime.config.RoqSiteConfig;
+import io.quarkiverse.roq.frontmatter.runtime.model.Page;
+import io.quarkiverse.roq.spi.RoqPathRenderer;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.LazyValue;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.runtime.TemplateProducer;
+
+/**
+ * Renders Roq pages in-process (same as {@link RoqRouteHandler} without the HTTP layer), this is used by the Roq
+ * Generator to avoid a loopback request per page.
+ */
+public class RoqFrontMatterPathRenderer implements RoqPathRenderer {
+
+    private final Map<String, Supplier<? extends Page>> pages;
+    private final RoqSiteConfig config;
+    private final LazyValue<TemplateProducer> templateProducer;
+
+    public RoqFrontMatterPathRenderer(Map<String, Supplier<? extends Page>> pages, RoqSiteConfig config) {
+        this.pages = pages;
+        this.config = config;
+        this.templateProducer = new LazyValue<>(
+                () -> Arc.container().instance(TemplateProducer.class).get());
+    }
+
+    @Override
+    public boolean handles(String path) {
+        // Query strings are not part of Roq pages, those are left to the HTTP layer
+        return path.indexOf('?') < 0 && pages.containsKey(toLink(path));
+    }
+
+    @Override
+    public CompletionStage<String> render(String path) {
+        final Supplier<? extends Page> supplier = pages.get(toLink(path));
+        if (supplier == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("No Roq page found for path: " + path));
+        }
+        final Page page = supplier.get();
+        final Template template = templateProducer.get()
+                .getInjectableTemplate(page.source().template().generatedQuteTemplateId());
+        final String locale = RoqRouteHandler.getLocale(page, null, config);
+        final ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return RoqRouteHandler.renderPage(page, template, locale);
+        }
+        try {
+            // Templates may use request scoped beans, same as for the route handler
+            requestContext.activate();
+            final ContextState state = requestContext.getState();
+            return RoqRouteHandler.renderPage(page, template, locale)
+                    .whenComplete((r, t) -> requestContext.destroy(state));
+        } finally {
+            requestContext.deactivate();
+        }
+    }
+}
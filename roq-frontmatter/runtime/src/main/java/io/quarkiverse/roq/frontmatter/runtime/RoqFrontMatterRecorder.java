@@ -11,10 +11,13 @@ import io.quarkiverse.roq.EncodedJson;
 import io.quarkiverse.roq.frontmatter.runtime.config.ConfiguredCollection;
 import io.quarkiverse.roq.frontmatter.runtime.config.RoqSiteConfig;
 import io.quarkiverse.roq.frontmatter.runtime.model.*;
+import io.quarkiverse.roq.frontmatter.runtime.utils.CompactJson;
+import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 
@@ -45,12 +48,40 @@ public class RoqFrontMatterRecorder {
     }
 
     public Supplier<NormalPage> createPage(RoqUrl url, PageSource source, EncodedJson data, Paginator paginator) {
-        return () -> new NormalPage(url, source, data.get(), paginator);
+        final JsonObject pageData = pageData(data);
+        return () -> new NormalPage(url, source, pageData, paginator);
     }
 
     public Supplier<DocumentPage> createDocument(String collection, RoqUrl url, PageSource source, EncodedJson data,
             boolean hidden) {
-        return () -> new DocumentPage(collection, url, source, data.get(), hidden);
+        final JsonObject pageData = pageData(data);
+        return () -> new DocumentPage(collection, url, source, pageData, hidden);
+    }
+
+    public Supplier<NormalPage> createIndexedPage(RoqUrl url, PageSource source, Supplier<RoqPageDataIndex> index,
+            int slot, Paginator paginator) {
+        final LazyValue<JsonObject> pageData = new LazyValue<>(() -> index.get().get(slot));
+        return () -> new NormalPage(url, source, pageData.get(), paginator);
+    }
+
+    public Supplier<DocumentPage> createIndexedDocument(String collection, RoqUrl url, PageSource source,
+            Supplier<RoqPageDataIndex> index, int slot, boolean hidden) {
+        final LazyValue<JsonObject> pageData = new LazyValue<>(() -> index.get().get(slot));
+        return () -> new DocumentPage(collection, url, source, pageData.get(), hidden);
+    }
+
+    public Supplier<RoqPageDataIndex> pageDataIndex(String resource) {
+        final LazyValue<RoqPageDataIndex> index = new LazyValue<>(
+                () -> RoqPageDataIndex.open(Thread.currentThread().getContextClassLoader(), resource, this::compact));
+        return index::get;
+    }
+
+    private JsonObject pageData(EncodedJson data) {
+        return compact(data.get());
+    }
+
+    private JsonObject compact(JsonObject pageData) {
+        return config.compactModel() ? CompactJson.compact(pageData) : pageData;
     }
 
     public Supplier<Site> createSite(RootUrl rootUrl, Supplier<NormalPage> indexPage,
@@ -62,7 +93,8 @@ public class RoqFrontMatterRecorder {
                 pages.add(pagesSupplier.get());
             }
             return new Site(indexPage.get().url(), config.imagesPath(),
-                    indexPage.get().data(), pages, roqCollectionsSupplier.get());
+                    indexPage.get().data(), pages, roqCollectionsSupplier.get(),
+                    new RoqContentCache(config.contentCache().maxSize().asLongValue()));
         };
     }
 
@@ -90,6 +122,10 @@ public class RoqFrontMatterRecorder {
         return new RoqPageResolverHandler(pageSuppliers);
     }
 
+    public Supplier<RoqFrontMatterPathRenderer> createPathRenderer(Map<String, Supplier<? extends Page>> pageSuppliers) {
+        return () -> new RoqFrontMatterPathRenderer(pageSuppliers, config);
+    }
+
     public Handler<RoutingContext> renderHandler() {
         return new RoqRouteHandler(httpConfig, config);
     }
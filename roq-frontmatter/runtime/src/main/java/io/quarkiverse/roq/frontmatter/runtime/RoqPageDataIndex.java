@@ -0,0 +1,146 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Binary index of the pages data, written at build time as a single resource instead of recording the data of each page.
+ * <p>
+ * The resource is memory-mapped, when it is in a jar (or a native image) it is first extracted to a temporary file, and
+ * the data of a page is only decoded when it is requested. The index doesn't keep the decoded data, the pages do.
+ * <p>
+ * Format: magic, count, {@code count + 1} offsets, then the UTF-8 encoded JSON of each page.
+ */
+public final class RoqPageDataIndex {
+
+    public static final String RESOURCE_PREFIX = "META-INF/roq/page-data/";
+    private static final int MAGIC = 0x524F5144;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int dataStart;
+    private final UnaryOperator<JsonObject> decoded;
+
+    RoqPageDataIndex(ByteBuffer buffer, UnaryOperator<JsonObject> decoded) {
+        this.buffer = buffer.asReadOnlyBuffer();
+        if (this.buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Invalid Roq page data index");
+        }
+        this.count = this.buffer.getInt(Integer.BYTES);
+        this.dataStart = (count + 3) * Integer.BYTES;
+        this.decoded = decoded;
+    }
+
+    /**
+     * Open the index resource from the given class loader.
+     *
+     * @param decoded applied to the data of a page after decoding
+     */
+    public static RoqPageDataIndex open(ClassLoader cl, String resource, UnaryOperator<JsonObject> decoded) {
+        final URL url = cl.getResource(resource);
+        if (url == null) {
+            throw new IllegalStateException("Roq page data index not found: " + resource);
+        }
+        try {
+            return new RoqPageDataIndex(load(url), decoded);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading Roq page data index " + resource, e);
+        }
+    }
+
+    private static ByteBuffer load(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                // Extract it below
+            }
+        }
+        // Not kept on the heap, the index can be larger than the data used by the site
+        final Path file = Files.createTempFile("roq-page-data-", ".idx");
+        try {
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return map(file);
+        } finally {
+            try {
+                // The mapping stays valid once the file is deleted
+                Files.delete(file);
+            } catch (IOException e) {
+                // e.g. Windows doesn't allow deleting a mapped file
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * @return the index content for the given pages data, the slot of each page is its position in the list
+     */
+    public static byte[] write(List<JsonObject> data) {
+        final byte[][] encoded = new byte[data.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = data.get(i).encode().getBytes(StandardCharsets.UTF_8);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(encoded.length);
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] e : encoded) {
+                offset += e.length;
+                out.writeInt(offset);
+            }
+            for (byte[] e : encoded) {
+                out.write(e);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return the data of the page with the given slot, decoded on each call
+     */
+    public JsonObject get(int slot) {
+        if (slot < 0 || slot >= count) {
+            throw new IndexOutOfBoundsException(slot);
+        }
+        final int start = offset(slot);
+        final byte[] bytes = new byte[offset(slot + 1) - start];
+        buffer.get(dataStart + start, bytes);
+        return decoded.apply(new JsonObject(new String(bytes, StandardCharsets.UTF_8)));
+    }
+
+    private int offset(int slot) {
+        return buffer.getInt((slot + 2) * Integer.BYTES);
+    }
+}
@@ -3,13 +3,17 @@ package io.quarkiverse.roq.frontmatter.runtime;
 import static io.quarkiverse.tools.stringpaths.StringPaths.addTrailingSlashIfNoExt;
 import static io.quarkiverse.tools.stringpaths.StringPaths.removeLeadingSlash;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.quarkiverse.roq.frontmatter.runtime.model.Page;
+import io.quarkus.arc.impl.LazyValue;
 import io.quarkus.vertx.http.runtime.RoutingUtils;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -20,18 +24,30 @@ public class RoqPageResolverHandler implements Handler<RoutingContext> {
 
     public static final String ROQ_PAGE_KEY = "roq.page";
 
-    private final Map<String, Supplier<? extends Page>> pages;
-    private final Map<String, Page> extractedPaths;
+    /**
+     * Maximum number of unknown paths remembered, so that random paths can't grow the memory
+     */
+    static final int MAX_MISSES = 10_000;
+
+    private final Map<String, LazyValue<Page>> pagesByLink;
+    private final Map<String, LazyValue<Page>> routes;
+    private final Cache<String, Boolean> misses;
 
     public RoqPageResolverHandler(Map<String, Supplier<? extends Page>> pages) {
-        this.pages = pages;
-        this.extractedPaths = new ConcurrentHashMap<>();
+        final Map<String, LazyValue<Page>> byLink = new HashMap<>(pages.size());
+        for (Map.Entry<String, Supplier<? extends Page>> e : pages.entrySet()) {
+            final Supplier<? extends Page> supplier = e.getValue();
+            byLink.put(e.getKey(), new LazyValue<>(supplier::get));
+        }
+        this.pagesByLink = Map.copyOf(byLink);
+        this.routes = routes(pagesByLink);
+        this.misses = Caffeine.newBuilder().maximumSize(MAX_MISSES).build();
     }
 
     @Override
     public void handle(RoutingContext rc) {
         String requestPath = RoutingUtils.resolvePath(rc);
-        Page page = extractedPaths.computeIfAbsent(requestPath, this::extractTemplatePath);
+        Page page = resolve(requestPath);
         if (page != null) {
             LOG.debugf("Resolved page: %s", page.id());
             rc.put(ROQ_PAGE_KEY, page);
@@ -39,12 +55,41 @@ public class RoqPageResolverHandler implements Handler<RoutingContext> {
         rc.next();
     }
 
-    private Page extractTemplatePath(String path) {
-        path = removeLeadingSlash(path);
-        final String link = addTrailingSlashIfNoExt(path);
-        if (pages.containsKey(link)) {
-            return pages.get(link).get();
+    private Page resolve(String path) {
+        LazyValue<Page> page = routes.get(path);
+        if (page != null) {
+            return page.get();
+        }
+        if (misses.getIfPresent(path) != null) {
+            return null;
+        }
+        // Any other variant resolving to a page (not expected with normalized paths)
+        page = pagesByLink.get(toLink(path));
+        if (page != null) {
+            return page.get();
         }
+        misses.put(path, Boolean.TRUE);
         return null;
     }
+
+    /**
+     * Build the lookup table of the request paths (with and without leading and trailing slash) for each page link.
+     */
+    static <T> Map<String, T> routes(Map<String, T> byLink) {
+        final Map<String, T> routes = new HashMap<>(byLink.size() * 4);
+        for (Map.Entry<String, T> e : byLink.entrySet()) {
+            final String link = e.getKey();
+            final String noTrailingSlash = link.endsWith("/") ? link.substring(0, link.length() - 1) : link;
+            for (String candidate : new String[] { link, "/" + link, noTrailingSlash, "/" + noTrailingSlash }) {
+                if (toLink(candidate).equals(link)) {
+                    routes.putIfAbsent(candidate, e.getValue());
+                }
+            }
+        }
+        return Map.copyOf(routes);
+    }
+
+    static String toLink(String path) {
+        return addTrailingSlashIfNoExt(removeLeadingSlash(path));
+    }
 }
@@ -0,0 +1,108 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkiverse.roq.frontmatter.runtime.model.Page;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Keeps the rendered pages encoded (and gzipped for compressible content types), weighted by their size in bytes.
+ */
+final class RoqRenderCache {
+
+    // The locales come from the requests, this is just a guard
+    static final int MAX_LOCALES = 32;
+
+    private final Cache<String, RenderedPage> cache;
+    private final Map<String, Boolean> locales = new ConcurrentHashMap<>();
+    private final AtomicInteger localeSlots = new AtomicInteger();
+
+    RoqRenderCache(long maxBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, RenderedPage page) -> page.weight())
+                .build();
+    }
+
+    /**
+     * @return true if the pages can be cached for the given locale, only the first {@value #MAX_LOCALES} locales are
+     *         cached so that arbitrary Accept-Language headers can't multiply the entries
+     */
+    boolean accepts(String locale) {
+        if (locale == null) {
+            return true;
+        }
+        // A locale only takes a slot when it is added, a rejected locale is not added (null)
+        return locales.computeIfAbsent(locale, l -> localeSlots.getAndIncrement() < MAX_LOCALES ? Boolean.TRUE : null) != null;
+    }
+
+    RenderedPage get(Page page, String locale) {
+        return cache.getIfPresent(key(page, locale));
+    }
+
+    /**
+     * Encode and compress (with the default level) the rendered page, it should not run on the event loop.
+     */
+    RenderedPage put(Page page, String locale, String content, boolean compress) {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final RenderedPage rendered = new RenderedPage(Buffer.buffer(bytes), compress ? gzip(bytes) : null,
+                RoqRouteHandler.etag(bytes));
+        cache.put(key(page, locale), rendered);
+        return rendered;
+    }
+
+    private static String key(Page page, String locale) {
+        return locale == null ? page.url().relative() : page.url().relative() + '|' + locale;
+    }
+
+    private static Buffer gzip(byte[] content) {
+        final Buffer buffer = Buffer.buffer(content.length / 4);
+        try (OutputStream out = new GZIPOutputStream(new BufferOutputStream(buffer))) {
+            out.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Not worth it
+        return buffer.length() < content.length ? buffer : null;
+    }
+
+    /**
+     * Buffers are sent as-is (Vert.x only duplicates the underlying indexes), so they can be shared between requests.
+     *
+     * @param gzip the gzipped content, or null when it is not compressible
+     * @param etag the ETag of the (uncompressed) content
+     */
+    record RenderedPage(Buffer content, Buffer gzip, String etag) {
+        int weight() {
+            return content.length() + (gzip != null ? gzip.length() : 0);
+        }
+    }
+
+    private static final class BufferOutputStream extends OutputStream {
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.appendBytes(b, off, len);
+        }
+    }
+}
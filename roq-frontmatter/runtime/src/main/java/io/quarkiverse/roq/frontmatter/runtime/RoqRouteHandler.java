@@ -1,7 +1,11 @@
 package io.quarkiverse.roq.frontmatter.runtime;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CompletionStage;
 
 import jakarta.enterprise.event.Event;
@@ -13,6 +17,7 @@ import io.quarkiverse.roq.frontmatter.runtime.config.RoqSiteConfig;
 import io.quarkiverse.roq.frontmatter.runtime.devmode.RoqErrorPage;
 import io.quarkiverse.roq.frontmatter.runtime.model.Page;
 import io.quarkiverse.roq.frontmatter.runtime.model.Site;
+import io.quarkiverse.roq.frontmatter.runtime.utils.Pages;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableContext.ContextState;
@@ -28,6 +33,7 @@ import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.RoutingContext;
@@ -44,6 +50,7 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
     private final CurrentVertxRequest currentVertxRequest;
     private final ManagedContext requestContext;
     private final LazyValue<TemplateProducer> templateProducer;
+    private final RoqRenderCache renderCache;
 
     public RoqRouteHandler(VertxHttpBuildTimeConfig httpBuildTimeConfig,
             RoqSiteConfig config) {
@@ -58,10 +65,19 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
         this.currentIdentity = container.instance(CurrentIdentityAssociation.class).get();
         this.templateProducer = new LazyValue<>(
                 () -> Arc.container().instance(TemplateProducer.class).get());
+        this.renderCache = config.renderCache().enabled() && LaunchMode.current() != LaunchMode.DEVELOPMENT
+                ? new RoqRenderCache(config.renderCache().maxSize().asLongValue())
+                : null;
     }
 
     @Override
     public void handle(RoutingContext rc) {
+        Page page = rc.get(RoqPageResolverHandler.ROQ_PAGE_KEY);
+        if (page == null || isStateless(page)) {
+            // Fast path, nothing request specific is needed to render the page
+            handlePage(rc);
+            return;
+        }
         QuarkusHttpUser user = (QuarkusHttpUser) rc.user();
 
         if (requestContext.isActive()) {
@@ -84,6 +100,11 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
         }
     }
 
+    private boolean isStateless(Page page) {
+        Object stateless = page.data(RoqFrontMatterKeys.STATELESS);
+        return stateless != null ? Boolean.parseBoolean(stateless.toString()) : config.statelessPages();
+    }
+
     private void processCurrentIdentity(RoutingContext rc, QuarkusHttpUser user) {
         if (currentIdentity != null) {
             if (user != null) {
@@ -99,6 +120,83 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
     }
 
     public static void sendPage(RoutingContext rc, String content, Page page, List<String> compressMediaTypes) {
+        String contentType = putContentType(rc, page);
+        if (isCompressible(contentType, compressMediaTypes)) {
+            allowCompression(rc);
+        }
+        rc.response().setStatusCode(200).end(content);
+    }
+
+    /**
+     * Send the rendered page with its ETag, or a 304 when it matches.
+     * <p>
+     * The page is already rendered at this point (the ETag is computed from the content), a 304 without rendering the
+     * page only happens when it is served from the render cache ({@code site.render-cache.enabled}).
+     */
+    private void sendRenderedPage(RoutingContext rc, String content, Page page) {
+        String contentType = putContentType(rc, page);
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String etag = etag(bytes);
+        if (isCompressible(contentType, compressMediaTypes)) {
+            rc.response().headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            allowCompression(rc);
+            // Vert.x may compress the body
+            etag = weak(etag);
+        }
+        rc.response().putHeader(HttpHeaders.ETAG, etag);
+        if (rc.isFresh()) {
+            rc.response().setStatusCode(304).end();
+            return;
+        }
+        rc.response().setStatusCode(200).end(Buffer.buffer(bytes));
+    }
+
+    private void sendPage(RoutingContext rc, RoqRenderCache.RenderedPage rendered, Page page) {
+        String contentType = putContentType(rc, page);
+        Buffer body = rendered.content();
+        String etag = rendered.etag();
+        if (isCompressible(contentType, compressMediaTypes)) {
+            rc.response().headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (rendered.gzip() != null && acceptsGzip(rc.request().getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                // Already compressed, Vert.x doesn't compress responses with a content-encoding
+                rc.response().putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = rendered.gzip();
+                // Each representation has its own strong ETag
+                etag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+            } else {
+                allowCompression(rc);
+                // Vert.x may compress the body
+                etag = weak(etag);
+            }
+        }
+        rc.response().putHeader(HttpHeaders.ETAG, etag);
+        if (rc.isFresh()) {
+            rc.response().setStatusCode(304).end();
+            return;
+        }
+        rc.response().setStatusCode(200).end(body);
+    }
+
+    /**
+     * The content is the same whatever the encoding Vert.x picks, but the bytes are not, so the ETag is weak.
+     */
+    private static String weak(String etag) {
+        return "W/" + etag;
+    }
+
+    /**
+     * @return a strong ETag computed from the content
+     */
+    static String etag(byte[] content) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return '"' + HexFormat.of().formatHex(hash, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String putContentType(RoutingContext rc, Page page) {
         String contentType = MimeMapping.getMimeTypeForExtension(page.source().template().targetExtension());
         if (contentType != null) {
             if (contentType.startsWith("text")) {
@@ -107,16 +205,53 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
                 rc.response().putHeader(HttpHeaders.CONTENT_TYPE, contentType);
             }
         }
-        if (contentType != null && compressMediaTypes != null && compressMediaTypes.contains(contentType)) {
-            String contentEncoding = rc.response().headers().get(HttpHeaders.CONTENT_ENCODING);
-            if (contentEncoding != null && HttpHeaders.IDENTITY.toString().equals(contentEncoding)) {
-                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+        return contentType;
+    }
+
+    private static boolean isCompressible(String contentType, List<String> compressMediaTypes) {
+        return contentType != null && compressMediaTypes != null && compressMediaTypes.contains(contentType);
+    }
+
+    private static void allowCompression(RoutingContext rc) {
+        String contentEncoding = rc.response().headers().get(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding != null && HttpHeaders.IDENTITY.toString().equals(contentEncoding)) {
+            rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            final int paramsIndex = part.indexOf(';');
+            final String coding = (paramsIndex >= 0 ? part.substring(0, paramsIndex) : part).trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                return paramsIndex < 0 || !isZeroQuality(part.substring(paramsIndex + 1));
             }
         }
-        rc.response().setStatusCode(200).end(content);
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            final String p = param.trim();
+            if (p.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(p.substring(2).trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
     }
 
     public static CompletionStage<String> renderPage(Page page, Template template, String locale) {
+        return templateInstance(page, template, locale).renderAsync();
+    }
+
+    private static TemplateInstance templateInstance(Page page, Template template, String locale) {
         Site site = Arc.container().beanInstanceSupplier(Site.class).get().get();
         TemplateInstance instance = template.instance();
         instance.data("page", page);
@@ -128,34 +263,49 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
         if (locale != null && !locale.isBlank()) {
             instance.setAttribute(TemplateInstance.LOCALE, locale);
         }
-        return instance.renderAsync();
+        return instance;
     }
 
     private void handlePage(RoutingContext rc) {
         Page page = rc.get(RoqPageResolverHandler.ROQ_PAGE_KEY);
         if (page != null) {
+            String locale = getLocale(page, rc, config);
+            if (isRequestLocale(page, rc)) {
+                // The content negotiated from Accept-Language
+                rc.response().headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+            }
+            final boolean cacheable = renderCache != null && Pages.isCacheable(page) && renderCache.accepts(locale);
+            if (cacheable) {
+                final RoqRenderCache.RenderedPage rendered = renderCache.get(page, locale);
+                if (rendered != null) {
+                    sendPage(rc, rendered, page);
+                    return;
+                }
+            }
             final String templateId = page.source().template().generatedQuteTemplateId();
             Template template = templateProducer.get().getInjectableTemplate(templateId);
-
-            String locale = getLocale(page, rc, config);
+            if (config.streamingRender() && !cacheable) {
+                streamPage(rc, page, template, locale);
+                return;
+            }
             renderPage(page, template, locale).whenComplete((r, t) -> {
                 if (t != null) {
-                    Throwable rootCause = rootCause(t);
-                    LOG.errorf("Error occurred while rendering the template [%s]: %s", page.id(), rootCause.toString());
-                    if (LaunchMode.current().isDevOrTest() && rootCause instanceof RoqException) {
-                        try {
-                            String html = RoqErrorPage.generatePage(rootCause);
-                            rc.response().setStatusCode(500)
-                                    .putHeader(HttpHeaders.CONTENT_TYPE, "text/html;charset=UTF-8")
-                                    .end(html);
-                        } catch (Exception e) {
-                            rc.fail(rootCause);
-                        }
-                    } else {
-                        rc.fail(rootCause);
-                    }
+                    handleRenderFailure(rc, page, t);
+                } else if (cacheable) {
+                    final String contentType = MimeMapping
+                            .getMimeTypeForExtension(page.source().template().targetExtension());
+                    final boolean compress = isCompressible(contentType, compressMediaTypes);
+                    // Compressing a large page would block the event loop
+                    rc.vertx().executeBlocking(() -> renderCache.put(page, locale, r, compress), false)
+                            .onComplete(ar -> {
+                                if (ar.failed()) {
+                                    handleRenderFailure(rc, page, ar.cause());
+                                } else {
+                                    sendPage(rc, ar.result(), page);
+                                }
+                            });
                 } else {
-                    sendPage(rc, r, page, compressMediaTypes);
+                    sendRenderedPage(rc, r, page);
                 }
             });
         } else {
@@ -164,6 +314,34 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
         }
     }
 
+    private void streamPage(RoutingContext rc, Page page, Template template, String locale) {
+        // Vary: Accept-Language is already set by handlePage when the locale is negotiated
+        String contentType = putContentType(rc, page);
+        if (isCompressible(contentType, compressMediaTypes)) {
+            rc.response().headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            allowCompression(rc);
+        }
+        templateInstance(page, template, locale).createMulti()
+                .subscribe().withSubscriber(new RoqStreamingResponse(rc.response(), t -> handleRenderFailure(rc, page, t)));
+    }
+
+    private void handleRenderFailure(RoutingContext rc, Page page, Throwable t) {
+        Throwable rootCause = rootCause(t);
+        LOG.errorf("Error occurred while rendering the template [%s]: %s", page.id(), rootCause.toString());
+        if (LaunchMode.current().isDevOrTest() && rootCause instanceof RoqException) {
+            try {
+                String html = RoqErrorPage.generatePage(rootCause);
+                rc.response().setStatusCode(500)
+                        .putHeader(HttpHeaders.CONTENT_TYPE, "text/html;charset=UTF-8")
+                        .end(html);
+            } catch (Exception e) {
+                rc.fail(rootCause);
+            }
+        } else {
+            rc.fail(rootCause);
+        }
+    }
+
     private Throwable rootCause(Throwable t) {
         Throwable root = t;
         while (root.getCause() != null) {
@@ -172,13 +350,21 @@ public class RoqRouteHandler implements Handler<RoutingContext> {
         return root;
     }
 
+    /**
+     * @return true if the locale of the page is taken from the request (Accept-Language)
+     */
+    static boolean isRequestLocale(Page page, RoutingContext rc) {
+        return page.data("locale") == null && !rc.acceptableLanguages().isEmpty();
+    }
+
     public static String getLocale(Page page, RoutingContext rc, RoqSiteConfig config) {
         Object pageLocale = page.data("locale");
         if (pageLocale != null) {
             return pageLocale.toString();
         }
         if (rc != null && !rc.acceptableLanguages().isEmpty()) {
-            return rc.acceptableLanguages().getFirst().tag();
+            // Normalised, so that the same locale always gets the same tag
+            return Locale.forLanguageTag(rc.acceptableLanguages().getFirst().tag()).toLanguageTag();
         }
         if (config.defaultLocale() != null) {
             return config.defaultLocale();
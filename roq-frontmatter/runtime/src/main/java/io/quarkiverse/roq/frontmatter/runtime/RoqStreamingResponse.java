@@ -0,0 +1,95 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Writes the chunks of a rendered template to a chunked response as they are produced.
+ * <p>
+ * Small chunks are coalesced before being written and the next chunk is only requested once the response write
+ * queue has room for it.
+ */
+final class RoqStreamingResponse implements Flow.Subscriber<String> {
+
+    private static final Logger LOG = Logger.getLogger(RoqStreamingResponse.class);
+
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    private final HttpServerResponse response;
+    private final Consumer<Throwable> failureBeforeWrite;
+    private final StringBuilder pending = new StringBuilder(CHUNK_SIZE);
+    private Flow.Subscription subscription;
+
+    /**
+     * @param failureBeforeWrite called when the rendering fails before anything was written to the response
+     */
+    RoqStreamingResponse(HttpServerResponse response, Consumer<Throwable> failureBeforeWrite) {
+        this.response = response;
+        this.failureBeforeWrite = failureBeforeWrite;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        response.closeHandler(v -> subscription.cancel());
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(String chunk) {
+        if (response.closed()) {
+            // The client is gone, the subscription is cancelled by the close handler
+            return;
+        }
+        pending.append(chunk);
+        if (pending.length() < CHUNK_SIZE) {
+            subscription.request(1);
+            return;
+        }
+        if (!response.headWritten()) {
+            response.setChunked(true).setStatusCode(200);
+        }
+        response.write(flush());
+        if (response.writeQueueFull()) {
+            response.drainHandler(v -> {
+                response.drainHandler(null);
+                subscription.request(1);
+            });
+        } else {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!response.headWritten()) {
+            failureBeforeWrite.accept(t);
+            return;
+        }
+        // The status was already sent, the only option left is to abort the response
+        LOG.errorf("Error occurred while streaming the template: %s", t.toString());
+        response.reset();
+    }
+
+    @Override
+    public void onComplete() {
+        if (response.closed()) {
+            return;
+        }
+        if (!response.headWritten()) {
+            // Small page, sent in one go
+            response.setStatusCode(200);
+        }
+        response.end(flush());
+    }
+
+    private String flush() {
+        final String chunk = pending.toString();
+        pending.setLength(0);
+        return chunk;
+    }
+}
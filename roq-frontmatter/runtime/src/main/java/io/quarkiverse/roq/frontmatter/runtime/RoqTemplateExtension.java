@@ -10,10 +10,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import io.quarkiverse.roq.frontmatter.runtime.model.*;
+import io.quarkiverse.roq.frontmatter.runtime.utils.HtmlText;
 import io.quarkiverse.roq.frontmatter.runtime.utils.TemplateLink;
 import io.quarkiverse.tools.stringpaths.StringPaths;
 import io.quarkus.qute.TemplateExtension;
@@ -28,22 +27,12 @@ public class RoqTemplateExtension {
 
     private static final int QUTE_FALLBACK_PRIORITY = -2;
 
-    private static final Pattern COUNT_WORDS = Pattern.compile("\\b\\w+\\b");
-    private static final Pattern STRIP_HTML_PATTERN = Pattern.compile("<[^>]*>");
-    private static final Pattern BR_PATTERN = Pattern.compile("(?i)<br\\s*/?>");
-    private static final Pattern BLOCK_CLOSE_PATTERN = Pattern
-            .compile("(?i)</(p|h[1-6]|div|blockquote|ul|ol|table)\\s*>");
-    private static final Pattern LI_CLOSE_PATTERN = Pattern.compile("(?i)</li\\s*>");
-    private static final Pattern SPACES_PATTERN = Pattern.compile("[ \\t]+");
-    private static final Pattern TRAILING_SPACES_PATTERN = Pattern.compile(" *\\n");
-    private static final Pattern MULTI_NEWLINES_PATTERN = Pattern.compile("\\n{3,}");
-
     /**
      * Returns the number of words in the given text.<br>
      * Example: "{'hello world'.numberOfWords}" → 2.
      */
     public static long numberOfWords(String text) {
-        return COUNT_WORDS.matcher(text).results().count();
+        return HtmlText.countWords(text);
     }
 
     /**
@@ -60,9 +49,7 @@ public class RoqTemplateExtension {
      * Example: "{page.readTime}" → 4.
      */
     public static Long readTime(Page page) {
-        final String text = stripHtml(page.site().pageContent(page));
-        final long count = numberOfWords(text);
-        return ceilDiv(count, 200);
+        return page.readingStats().readTime();
     }
 
     /**
@@ -70,7 +57,7 @@ public class RoqTemplateExtension {
      * Example: "{page.contentAbstract}".
      */
     public static String contentAbstract(Page page) {
-        return contentAbstract(page, 75);
+        return page.readingStats().contentAbstract();
     }
 
     /**
@@ -78,6 +65,9 @@ public class RoqTemplateExtension {
      * Example: "{page.contentAbstract(10)}".
      */
     public static String contentAbstract(Page page, int limit) {
+        if (limit == ReadingStats.ABSTRACT_WORDS) {
+            return page.readingStats().contentAbstract();
+        }
         return contentAbstract(page.content(), limit);
     }
 
@@ -86,7 +76,7 @@ public class RoqTemplateExtension {
      * Example: "{'<div>Hello World</div>'.contentAbstract(10)}".
      */
     public static String contentAbstract(String htmlContent, int limit) {
-        return wordLimit(stripHtml(htmlContent), limit);
+        return HtmlText.textAbstract(htmlContent, limit);
     }
 
     // ── Page link placeholder extensions ──────────────────────────────────
@@ -138,7 +128,7 @@ public class RoqTemplateExtension {
         if (html == null) {
             return null;
         }
-        return STRIP_HTML_PATTERN.matcher(html).replaceAll("");
+        return HtmlText.strip(html);
     }
 
     /**
@@ -161,17 +151,7 @@ public class RoqTemplateExtension {
         if (html == null || html.isEmpty()) {
             return "";
         }
-        String text = html;
-        text = BR_PATTERN.matcher(text).replaceAll("\n");
-        text = BLOCK_CLOSE_PATTERN.matcher(text).replaceAll("\n\n");
-        text = LI_CLOSE_PATTERN.matcher(text).replaceAll("\n");
-        text = STRIP_HTML_PATTERN.matcher(text).replaceAll("");
-        text = text.replace("&amp;", "&").replace("&quot;", "\"")
-                .replace("&#39;", "'").replace("&nbsp;", " ");
-        text = SPACES_PATTERN.matcher(text).replaceAll(" ");
-        text = TRAILING_SPACES_PATTERN.matcher(text).replaceAll("\n");
-        text = MULTI_NEWLINES_PATTERN.matcher(text).replaceAll("\n\n");
-        return text.strip();
+        return HtmlText.toPlainText(html);
     }
 
     /**
@@ -179,23 +159,7 @@ public class RoqTemplateExtension {
      * Example: "{'Hello World'.wordLimit(1)}" → "Hello...".
      */
     public static String wordLimit(String text, int limit) {
-        Matcher m = COUNT_WORDS.matcher(text);
-        int count = 0;
-        int end = -1;
-
-        while (m.find()) {
-            count++;
-            if (count == limit) {
-                end = m.end();
-                break;
-            }
-        }
-
-        if (end == -1 || end >= text.length()) {
-            return text;
-        } else {
-            return text.substring(0, end).trim() + "...";
-        }
+        return HtmlText.wordLimit(text, limit);
     }
 
     /**
@@ -483,13 +447,4 @@ public class RoqTemplateExtension {
         }
         return Locale.getDefault();
     }
-
-    private static long ceilDiv(long x, long y) {
-        final long q = x / y;
-        // if the signs are the same and modulo not zero, round up
-        if ((x ^ y) >= 0 && (q * y != x)) {
-            return q + 1;
-        }
-        return q;
-    }
 }
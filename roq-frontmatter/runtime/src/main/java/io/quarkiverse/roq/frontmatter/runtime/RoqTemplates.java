@@ -10,6 +10,8 @@ public final class RoqTemplates {
     public static final String LAYOUTS_DIR = "layouts/"; // includes trailing slash
     public static final String THEME_LAYOUTS_DIR = "theme-layouts/"; // includes trailing slash
     public static final String ROQ_PAGE_CONTENT_FRAGMENT = "RoqPageContent";
+    // Pre-rendered page contents, by generated Qute template id
+    public static final String ROQ_STATIC_CONTENT_PREFIX = "META-INF/roq/static-content/";
 
     public static boolean isLayoutSourceTemplate(String templateId) {
         return templateId.startsWith(LAYOUTS_DIR) || templateId.startsWith(THEME_LAYOUTS_DIR);
@@ -10,6 +10,7 @@ import jakarta.validation.constraints.Pattern;
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
@@ -251,6 +252,99 @@ public interface RoqSiteConfig {
     @WithDefault(DEFAULT_PAGE_LINK)
     String pageLink();
 
+    /**
+     * Serve pages without activating the CDI request context and without resolving the security identity, which
+     * removes most of the per-request overhead for small pages.
+     * Only enable it when templates don't use request scoped beans nor the security identity.
+     * Pages can override it with `stateless: true|false` in their front matter.
+     */
+    @WithDefault("false")
+    boolean statelessPages();
+
+    /**
+     * Write the pages to the response in chunks while they are rendered instead of rendering the complete page in memory
+     * first. This lowers the time-to-first-byte and the memory used for large pages, but streamed pages have no `ETag`.
+     * Pages served from the render cache are not streamed.
+     */
+    @WithDefault("false")
+    boolean streamingRender();
+
+    /**
+     * In-memory cache of the rendered pages
+     */
+    RenderCacheConfig renderCache();
+
+    interface RenderCacheConfig {
+        /**
+         * Keep the rendered pages in memory (encoded and pre-compressed) instead of rendering them on each request.
+         * Only enable it when pages don't depend on the request (e.g. security identity or request scoped beans),
+         * a page can opt out with `cache: false` in its front matter.
+         * <p>
+         * Conditional requests matching the ETag of a cached page get a 304 without rendering the page, otherwise the
+         * page is rendered before the ETag can be compared.
+         * <p>
+         * The cache is never used in dev mode.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum memory used by the cached pages (encoded and compressed content)
+         */
+        @WithDefault("64M")
+        MemorySize maxSize();
+    }
+
+    /**
+     * Pre-render at build time the content of the pages which doesn't contain any Qute expression or section (e.g. plain
+     * or escaped html), instead of rendering it when `page.content` is first used.
+     * The content of pages using a markup (e.g. markdown or asciidoc) is converted at runtime and never pre-rendered.
+     */
+    @WithDefault("false")
+    boolean prerenderStaticContent();
+
+    /**
+     * Reduce the heap used by the pages data of very large sites (e.g. 100k+ documents): short values shared between
+     * pages (layouts, collections, tags...) are deduplicated and the data is sized for its content.
+     * <p>
+     * This makes the startup a bit slower.
+     */
+    @WithDefault("false")
+    boolean compactModel();
+
+    /**
+     * Binary index of the pages data, for very large sites
+     */
+    PageDataIndexConfig pageDataIndex();
+
+    interface PageDataIndexConfig {
+        /**
+         * Write the data of all the pages in a single resource at build time instead of recording the data of each
+         * page, the data of a page is then decoded when the page is first used.
+         * This reduces the size of the recorded bytecode and the startup time of very large sites (e.g. 100k+
+         * documents), the data of the pages is still kept in memory once decoded.
+         * The index is memory-mapped, when the application is packaged as a jar it is extracted to a temporary file at
+         * startup.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
+    /**
+     * In-memory cache of the rendered page contents (`page.content`), used by listing pages, feeds, search indexes and
+     * reading stats
+     */
+    ContentCacheConfig contentCache();
+
+    interface ContentCacheConfig {
+        /**
+         * The maximum memory used by the cached contents, the least used contents are evicted when it is reached.
+         * Use `0` to disable the cache.
+         */
+        @WithDefault("64M")
+        MemorySize maxSize();
+    }
+
     interface CollectionConfig {
         /**
          * If this collection is enabled
@@ -3,8 +3,8 @@ package io.quarkiverse.roq.frontmatter.runtime.model;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.DESCRIPTION;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.TITLE;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqTemplates.ROQ_PAGE_CONTENT_FRAGMENT;
+import static io.quarkiverse.roq.frontmatter.runtime.RoqTemplates.ROQ_STATIC_CONTENT_PREFIX;
 import static io.quarkiverse.roq.frontmatter.runtime.utils.Pages.getImgFromData;
-import static io.quarkiverse.roq.frontmatter.runtime.utils.Pages.normaliseName;
 import static io.quarkiverse.roq.frontmatter.runtime.utils.Pages.resolveFile;
 import static io.quarkiverse.tools.stringpaths.StringPaths.toUnixPath;
 
@@ -24,6 +24,7 @@ import org.jboss.logging.Logger;
 import io.quarkiverse.roq.exception.RoqException;
 import io.quarkiverse.roq.frontmatter.runtime.RoqTemplateAttributes;
 import io.quarkiverse.roq.frontmatter.runtime.exception.RoqStaticFileException;
+import io.quarkiverse.roq.frontmatter.runtime.utils.Pages;
 import io.quarkiverse.roq.frontmatter.runtime.utils.SoftLazyValue;
 import io.quarkus.arc.Arc;
 import io.quarkus.qute.Engine;
@@ -44,8 +45,8 @@ public class Page {
     private final RoqUrl url;
     private final JsonObject data;
     private final PageSource source;
-    private final SoftLazyValue<String> contentLazy = new SoftLazyValue<>(this::resolveContentLazy);
     private final SoftLazyValue<String> rawTemplateLazy = new SoftLazyValue<>(this::resolveRawTemplateLazy);
+    private volatile ReadingStats readingStats;
     private final ThreadLocal<Boolean> resolvingContent = ThreadLocal.withInitial(() -> Boolean.FALSE);
 
     protected Page(RoqUrl url, PageSource source, JsonObject data) {
@@ -87,12 +88,30 @@ public class Page {
         }
         resolvingContent.set(true);
         try {
-            return contentLazy.get();
+            return site().contentCache().get(this, Page::renderContent);
         } finally {
             resolvingContent.set(false);
         }
     }
 
+    /**
+     * The reading stats (words, read time and abstract) of the content, those are computed once
+     * unless the page opted out of caching (`cache: false`).
+     */
+    public ReadingStats readingStats() {
+        ReadingStats stats = readingStats;
+        if (stats != null) {
+            return stats;
+        }
+        // When called from the content itself, the content is not available yet
+        final boolean recursive = resolvingContent.get();
+        stats = ReadingStats.of(content());
+        if (!recursive && Pages.isCacheable(this)) {
+            readingStats = stats;
+        }
+        return stats;
+    }
+
     /**
      * The raw generated Qute template for this page, including layout include directives and fragment wrappers.
      */
@@ -108,10 +127,17 @@ public class Page {
         return rawTemplate();
     }
 
-    private String resolveContentLazy() {
+    private String renderContent() {
         try {
-            final Engine engine = Arc.container().instance(Engine.class).get();
             final String id = source().template().generatedQuteTemplateId();
+            if (source().template().hasPrerenderedContent()) {
+                // Content without any Qute expression, pre-rendered at build time
+                final String prerendered = readResource(ROQ_STATIC_CONTENT_PREFIX + id);
+                if (prerendered != null) {
+                    return prerendered;
+                }
+            }
+            final Engine engine = Arc.container().instance(Engine.class).get();
             final Template template = engine.getTemplate(id);
             if (template == null) {
                 return "";
@@ -128,16 +154,20 @@ public class Page {
     }
 
     private String resolveRawTemplateLazy() {
-        final String templateResource = "/templates/" + source().template().generatedQuteTemplateId();
+        final String content = readResource("/templates/" + source().template().generatedQuteTemplateId());
+        return content != null ? content : "";
+    }
+
+    private static String readResource(String name) {
         try (InputStream resource = Thread.currentThread().getContextClassLoader()
-                .getResourceAsStream(templateResource)) {
+                .getResourceAsStream(name)) {
             if (resource != null) {
                 return new String(resource.readAllBytes(), StandardCharsets.UTF_8);
             }
         } catch (IOException e) {
-            throw new IllegalStateException("Can't read '" + templateResource + "'", e);
+            throw new IllegalStateException("Can't read '" + name + "'", e);
         }
-        return "";
+        return null;
     }
 
     /**
@@ -229,7 +259,7 @@ public class Page {
         if (path.startsWith("/")) {
             return site().image(path.substring(1));
         }
-        path = normaliseName(path, source().files().slugified());
+        path = source().files().normalise(path);
         return file(path);
     }
 
@@ -252,7 +282,7 @@ public class Page {
         if (path.startsWith("/")) {
             return site().imageExists(path.substring(1));
         }
-        path = normaliseName(path, source().files().slugified());
+        path = source().files().normalise(path);
         return fileExists(path);
     }
 
@@ -281,7 +311,7 @@ public class Page {
                     .detail("Cannot check for file '%s' because this page is not a directory page.".formatted(name))
                     .hint("Convert the page to a directory with an index file to allow attaching files."));
         }
-        var f = normaliseName(name, source().files().slugified());
+        var f = source().files().normalise(name);
         return source().fileExists(f);
     }
 
@@ -4,18 +4,75 @@ import static io.quarkiverse.tools.stringpaths.StringPaths.fileExtension;
 import static io.quarkiverse.tools.stringpaths.StringPaths.removeExtension;
 import static io.quarkiverse.tools.stringpaths.StringPaths.slugify;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-public record PageFiles(List<String> names, boolean slugified) {
+import io.quarkus.arc.impl.LazyValue;
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * The files attached to a page (or the public files for the site index).
+ * <p>
+ * The names are indexed when there are many of them, and the normalised names requested by the templates are
+ * remembered, so that checking if a file exists doesn't scan the names or slugify the same name again.
+ */
+public final class PageFiles {
 
     public static final PageFiles EMPTY = new PageFiles(List.of(), false);
 
+    // Scanning a few names is cheaper than hashing
+    static final int MIN_INDEXED_NAMES = 8;
+    // The names are requested from templates, this is just a guard
+    private static final int MAX_NORMALISED_NAMES = 1024;
+
+    private final List<String> names;
+    private final boolean slugified;
+    private final Set<String> index;
+    // Created when a name is first normalised
+    private final LazyValue<Map<String, String>> normalisedNames = new LazyValue<>(ConcurrentHashMap::new);
+
+    @RecordableConstructor
+    public PageFiles(List<String> names, boolean slugified) {
+        // Copied without List.copyOf which rejects null names
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.slugified = slugified;
+        this.index = this.names.size() >= MIN_INDEXED_NAMES ? new HashSet<>(this.names) : null;
+    }
+
     public static PageFiles empty() {
         return EMPTY;
     }
 
+    public List<String> names() {
+        return names;
+    }
+
+    public boolean slugified() {
+        return slugified;
+    }
+
+    /**
+     * Same as {@link #names()}, used by the recorder
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Same as {@link #slugified()}, used by the recorder
+     */
+    public boolean isSlugified() {
+        return slugified;
+    }
+
     public boolean contains(Object o) {
-        return names.contains(o);
+        return index != null ? index.contains(o) : names.contains(o);
     }
 
     public boolean isEmpty() {
@@ -26,6 +83,27 @@ public record PageFiles(List<String> names, boolean slugified) {
         return names.size();
     }
 
+    /**
+     * Normalise the given file name (removing {@code ./}) and slugify it if the files are slugified.
+     */
+    public String normalise(Object name) {
+        final String n = String.valueOf(name);
+        final Map<String, String> memo = normalisedNames.get();
+        final String normalised = memo.get(n);
+        if (normalised != null) {
+            return normalised;
+        }
+        if (memo.size() >= MAX_NORMALISED_NAMES) {
+            return normalise(n, slugified);
+        }
+        return memo.computeIfAbsent(n, k -> normalise(k, slugified));
+    }
+
+    public static String normalise(String name, boolean slugify) {
+        final String clean = name.replace("./", "");
+        return slugify ? slugifyFile(clean) : clean;
+    }
+
     public static String slugifyFile(String filePath) {
         final String extension = fileExtension(filePath);
         String path = removeExtension(filePath);
@@ -34,4 +112,25 @@ public record PageFiles(List<String> names, boolean slugified) {
         String slugify = slugify(path, true, true);
         return extension == null ? slugify : slugify + "." + extension;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageFiles that)) {
+            return false;
+        }
+        return slugified == that.slugified && names.equals(that.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(names, slugified);
+    }
+
+    @Override
+    public String toString() {
+        return "PageFiles[names=" + names + ", slugified=" + slugified + "]";
+    }
 }
@@ -0,0 +1,27 @@
+package io.quarkiverse.roq.frontmatter.runtime.model;
+
+import jakarta.enterprise.inject.Vetoed;
+
+import io.quarkiverse.roq.frontmatter.runtime.utils.HtmlText;
+import io.quarkus.qute.TemplateData;
+
+/**
+ * The reading stats of a page content, computed once so that listing pages don't process each page content again.
+ *
+ * @param words the number of words in the content
+ * @param readTime the estimated reading time in minutes
+ * @param contentAbstract the text of the content limited to {@link #ABSTRACT_WORDS} words, with "..." if truncated
+ */
+@TemplateData
+@Vetoed
+public record ReadingStats(long words, long readTime, String contentAbstract) {
+
+    public static final int ABSTRACT_WORDS = 75;
+    public static final int WORDS_PER_MINUTE = 200;
+
+    public static ReadingStats of(String htmlContent) {
+        final HtmlText.Summary summary = HtmlText.summarize(htmlContent, ABSTRACT_WORDS);
+        return new ReadingStats(summary.words(), Math.ceilDiv(summary.words(), WORDS_PER_MINUTE),
+                summary.textAbstract());
+    }
+}
@@ -1,7 +1,7 @@
 package io.quarkiverse.roq.frontmatter.runtime.model;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.enterprise.inject.Vetoed;
 
@@ -15,6 +15,13 @@ import io.quarkus.qute.TemplateData;
 @Vetoed
 public class RoqCollection extends ArrayList<DocumentPage> {
     private final ConfiguredCollection collection;
+    // Positions of the documents by instance and by url, page instances are not always shared
+    private final Map<DocumentPage, Integer> positions;
+    private final Map<RoqUrl, Integer> positionsByUrl;
+    // The documents data is static, lookups are computed once and shared by all renderings
+    private final Map<List<String>, List<Object>> byIndexes = new ConcurrentHashMap<>();
+    private final Map<List<String>, Map<Object, List<Page>>> groupIndexes = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, List<DocumentPage>>> indexes = new ConcurrentHashMap<>();
     public static final Comparator<DocumentPage> BY_DATE = Comparator
             .comparing(DocumentPage::date, Comparator.nullsLast(Comparator.naturalOrder())).reversed();
 
@@ -23,6 +30,13 @@ public class RoqCollection extends ArrayList<DocumentPage> {
                 .sorted(BY_DATE)
                 .toList());
         this.collection = collection;
+        this.positions = new IdentityHashMap<>(size());
+        this.positionsByUrl = new HashMap<>(size());
+        for (int i = 0; i < size(); i++) {
+            final DocumentPage page = get(i);
+            positions.putIfAbsent(page, i);
+            positionsByUrl.putIfAbsent(page.url(), i);
+        }
     }
 
     public String id() {
@@ -45,7 +59,7 @@ public class RoqCollection extends ArrayList<DocumentPage> {
      * Resolve the next document page in this collection
      */
     public DocumentPage nextPage(DocumentPage page) {
-        final int i = this.indexOf(page);
+        final int i = this.position(page);
         if (i == -1 || i >= this.size() - 1) {
             return null;
         }
@@ -56,7 +70,7 @@ public class RoqCollection extends ArrayList<DocumentPage> {
      * Resolve the previous document page in this collection
      */
     public DocumentPage previousPage(DocumentPage page) {
-        final int i = this.indexOf(page);
+        final int i = this.position(page);
         if (i <= 0) {
             return null;
         }
@@ -67,6 +81,22 @@ public class RoqCollection extends ArrayList<DocumentPage> {
         return this.previousPage(page);
     }
 
+    /**
+     * Same as {@link #indexOf(Object)} without scanning the whole collection
+     */
+    private int position(DocumentPage page) {
+        if (page == null) {
+            return -1;
+        }
+        Integer i = positions.get(page);
+        if (i != null) {
+            return i;
+        }
+        // Equal pages have the same url
+        i = positionsByUrl.get(page.url());
+        return i != null && i < size() && get(i).equals(page) ? i : -1;
+    }
+
     /**
      * Get the sub-list of documents depending on the given paginator
      */
@@ -87,17 +117,24 @@ public class RoqCollection extends ArrayList<DocumentPage> {
      * Retrieves a list of non-null values from the pages for the specified keys.
      * This method searches through all the pages for each of the provided keys and
      * collects all non-null values associated with the keys.
+     * The values are looked up once per set of keys, each call returns a new list.
      *
      * @param keys the keys to search for in the pages' data. Multiple keys can be passed.
      * @return a {@code List<Object>} containing all non-null values found in the pages for the specified keys.
      */
     public List<Object> by(String... keys) {
-        return this.stream()
-                .flatMap(page -> Arrays.stream(keys)
-                        .map(page::data) // Get the data for each key
-                        .filter(Objects::nonNull) // Filter out null results
-                )
-                .collect(Collectors.toList()); // Collect non-null values into a list
+        return new ArrayList<>(byIndexes.computeIfAbsent(Arrays.asList(keys.clone()), k -> {
+            final List<Object> values = new ArrayList<>();
+            for (Page page : this) {
+                for (String key : k) {
+                    final Object value = page.data(key);
+                    if (value != null) {
+                        values.add(value);
+                    }
+                }
+            }
+            return Collections.unmodifiableList(values);
+        }));
     }
 
     /**
@@ -105,6 +142,7 @@ public class RoqCollection extends ArrayList<DocumentPage> {
      * For each key provided, this method searches through the pages and groups them
      * based on the values associated with that key. The resulting map will contain the
      * found values as keys and the corresponding list of pages that contain those values.
+     * The groups are computed once per set of keys, each call returns a new map.
      *
      * @param keys the keys to group pages by. Multiple keys can be passed.
      * @return a {@code Map<Object, List<Page>>} where each key is a unique value found
@@ -112,18 +150,59 @@ public class RoqCollection extends ArrayList<DocumentPage> {
      *         a list of pages where the value was found.
      */
     public Map<Object, List<Page>> group(String... keys) {
-        Map<Object, List<Page>> resultMap = new LinkedHashMap<>();
+        final Map<Object, List<Page>> groups = groupIndexes.computeIfAbsent(Arrays.asList(keys.clone()), k -> {
+            final Map<Object, List<Page>> resultMap = new LinkedHashMap<>();
+            for (Page page : this) {
+                for (String key : k) {
+                    final Object value = page.data(key);
+                    if (value != null) {
+                        resultMap.computeIfAbsent(value, v -> new ArrayList<>()).add(page);
+                    }
+                }
+            }
+            return immutable(resultMap);
+        });
+        final Map<Object, List<Page>> resultMap = new LinkedHashMap<>(groups.size());
+        groups.forEach((value, pages) -> resultMap.put(value, new ArrayList<>(pages)));
+        return resultMap;
+    }
 
-        for (Page page : this) {
-            for (String key : keys) {
-                Object value = page.data(key);
-                if (value != null) {
-                    resultMap.computeIfAbsent(value, k -> new ArrayList<>()).add(page);
+    /**
+     * Index the documents by the values of the specified key, when the value is an array (e.g. `tags`),
+     * the document is indexed for each of its elements.
+     * <p>
+     * The index is computed once, e.g. `site.collections.posts.index('author')`.
+     *
+     * @param key the key to index documents by
+     * @return an immutable {@code Map<Object, List<DocumentPage>>} where each key is a unique value found for the key,
+     *         and the corresponding value is the list of documents (in the collection order) where the value was found.
+     */
+    public Map<Object, List<DocumentPage>> index(String key) {
+        return indexes.computeIfAbsent(key, k -> {
+            final Map<Object, List<DocumentPage>> resultMap = new LinkedHashMap<>();
+            for (DocumentPage page : this) {
+                final Object value = page.data(k);
+                if (value instanceof Iterable<?> values) {
+                    for (Object v : values) {
+                        if (v != null) {
+                            final List<DocumentPage> pages = resultMap.computeIfAbsent(v, i -> new ArrayList<>());
+                            // Avoid duplicates when an element is repeated
+                            if (pages.isEmpty() || pages.get(pages.size() - 1) != page) {
+                                pages.add(page);
+                            }
+                        }
+                    }
+                } else if (value != null) {
+                    resultMap.computeIfAbsent(value, i -> new ArrayList<>()).add(page);
                 }
             }
-        }
+            return immutable(resultMap);
+        });
+    }
 
-        return resultMap;
+    private static <T> Map<Object, List<T>> immutable(Map<Object, List<T>> map) {
+        map.replaceAll((k, v) -> List.copyOf(v));
+        return Collections.unmodifiableMap(map);
     }
 
     @Override
@@ -3,7 +3,6 @@ package io.quarkiverse.roq.frontmatter.runtime.model;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.DESCRIPTION;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.TITLE;
 import static io.quarkiverse.roq.frontmatter.runtime.utils.Pages.getImgFromData;
-import static io.quarkiverse.roq.frontmatter.runtime.utils.Pages.normaliseName;
 import static io.quarkiverse.roq.frontmatter.runtime.utils.Pages.resolvePublicFile;
 
 import java.util.Collection;
@@ -12,7 +11,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -21,6 +19,7 @@ import jakarta.enterprise.inject.Vetoed;
 import org.jboss.logging.Logger;
 
 import io.quarkiverse.roq.exception.RoqException;
+import io.quarkiverse.roq.frontmatter.runtime.RoqContentCache;
 import io.quarkiverse.roq.frontmatter.runtime.exception.RoqStaticFileException;
 import io.quarkiverse.tools.stringpaths.StringPaths;
 import io.quarkus.arc.impl.LazyValue;
@@ -44,7 +43,7 @@ public final class Site {
     private final LazyValue<Map<String, NormalPage>> pagesById;
     private final LazyValue<Map<String, DocumentPage>> documentsById;
     private final NormalPage page;
-    private final Map<Page, String> pageContentCache = new ConcurrentHashMap<>();
+    private final RoqContentCache contentCache;
     private final Collection<Page> allPages;
 
     /**
@@ -56,11 +55,25 @@ public final class Site {
      */
     public Site(RoqUrl url, String imagesDir, JsonObject data, List<NormalPage> pages,
             RoqCollections collections) {
+        this(url, imagesDir, data, pages, collections, new RoqContentCache(RoqContentCache.DEFAULT_MAX_BYTES));
+    }
+
+    /**
+     * @param url the Roq site url to the index page
+     * @param imagesDir directory to resolve global images url (e.g. /static/images)
+     * @param data the site FM data (declared in the index.html)
+     * @param pages all the pages in this site (without the documents)
+     * @param collections all the collections in this site (containing documents)
+     * @param contentCache the cache of the rendered page contents
+     */
+    public Site(RoqUrl url, String imagesDir, JsonObject data, List<NormalPage> pages,
+            RoqCollections collections, RoqContentCache contentCache) {
         this.url = url;
         this.imagesDir = imagesDir;
         this.data = data;
         this.pages = pages;
         this.collections = collections;
+        this.contentCache = contentCache;
         this.page = pages.stream().filter(p -> p.source().isSiteIndex()).findFirst().orElseThrow();
         this.pagesById = new LazyValue<>(() -> pages.stream().collect(Collectors.toMap(NormalPage::id, Function.identity())));
         this.documentsById = new LazyValue<>(() -> collections().collections().values().stream()
@@ -130,7 +143,7 @@ public final class Site {
         if (RoqUrl.isFullPath(path)) {
             return RoqUrl.fromRoot(null, path);
         }
-        path = normaliseName(path, page.source().files().slugified());
+        path = page.source().files().normalise(path);
         // Legacy images dir support
         if (fileExists(StringPaths.join("static/assets/images", path))) {
             return file(StringPaths.join("static/assets/images", path));
@@ -165,7 +178,7 @@ public final class Site {
      */
     public boolean imageExists(String name) {
         String path = String.valueOf(name);
-        path = normaliseName(path, page.source().files().slugified());
+        path = page.source().files().normalise(path);
         // Legacy images dir support
         if (fileExists(StringPaths.join("static/assets/images", path))) {
             return true;
@@ -299,6 +312,13 @@ public final class Site {
         return page.content();
     }
 
+    /**
+     * @return the cache of the rendered page contents
+     */
+    public RoqContentCache contentCache() {
+        return contentCache;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass())
@@ -321,7 +341,6 @@ public final class Site {
                 .add("imagesDir='" + imagesDir + "'")
                 .add("data=" + data)
                 .add("page=" + page)
-                .add("pageContentCache=" + pageContentCache)
                 .add("allPages=" + allPages)
                 .toString();
     }
@@ -27,6 +27,8 @@ import io.quarkus.qute.TemplateData;
  * @param isIndex true if this is an index file
  * @param isSiteIndex true if this is the site index (only one per site)
  * @param targetExtension the output file extension without dot (e.g. "html", "xml", "txt")
+ * @param hasPrerenderedContent true if the page content was pre-rendered at build time
+ *        (see {@code site.prerender-static-content})
  */
 @TemplateData
 @Vetoed
@@ -40,7 +42,14 @@ public record TemplateSource(
         boolean isTargetHtml,
         boolean isIndex,
         boolean isSiteIndex,
-        String targetExtension) {
+        String targetExtension,
+        boolean hasPrerenderedContent) {
+
+    public TemplateSource(String id, String markup, SourceFile file, String path, String generatedQuteId,
+            boolean isLayout, boolean isTargetHtml, boolean isIndex, boolean isSiteIndex, String targetExtension) {
+        this(id, markup, file, path, generatedQuteId, isLayout, isTargetHtml, isIndex, isSiteIndex, targetExtension,
+                false);
+    }
 
     public static TemplateSource create(
             String id,
@@ -52,20 +61,34 @@ public record TemplateSource(
             boolean isTargetHtml,
             boolean isIndex,
             boolean isSiteIndex) {
+        return create(id, markup, sourceFile, path, quteTemplateId, isLayout, isTargetHtml, isIndex, isSiteIndex, false);
+    }
+
+    public static TemplateSource create(
+            String id,
+            String markup,
+            SourceFile sourceFile,
+            String path,
+            String quteTemplateId,
+            boolean isLayout,
+            boolean isTargetHtml,
+            boolean isIndex,
+            boolean isSiteIndex,
+            boolean hasPrerenderedContent) {
 
         String targetExt = StringPaths.fileExtension(quteTemplateId);
         return new TemplateSource(id, markup, sourceFile, path, quteTemplateId, isLayout, isTargetHtml, isIndex,
-                isSiteIndex, targetExt);
+                isSiteIndex, targetExt, hasPrerenderedContent);
     }
 
     public TemplateSource changeId(String id) {
         return new TemplateSource(id, markup(), file(), path(),
-                generatedQuteId(), isLayout(), isTargetHtml(), isIndex(), false, targetExtension());
+                generatedQuteId(), isLayout(), isTargetHtml(), isIndex(), false, targetExtension(), hasPrerenderedContent());
     }
 
     public TemplateSource changeIds(Function<String, String> function) {
         return new TemplateSource(function.apply(id()), markup(), file(), path(),
-                function.apply(generatedQuteId()), isLayout(), isTargetHtml(), isIndex(), false, targetExtension());
+                function.apply(generatedQuteId()), isLayout(), isTargetHtml(), isIndex(), false, targetExtension(), false);
     }
 
     public String generatedQuteTemplateId() {
@@ -0,0 +1,69 @@
+package io.quarkiverse.roq.frontmatter.runtime.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Copy of the page data with a smaller heap footprint, for very large sites.
+ * <p>
+ * The short strings (layouts, collections, tags, authors...) are interned so that the pages share them, and the maps
+ * and lists are sized for their content. The copy is still a mutable {@link JsonObject}.
+ */
+public final class CompactJson {
+
+    /**
+     * Longer strings (titles, descriptions...) are rarely shared between pages
+     */
+    static final int MAX_INTERNED_LENGTH = 64;
+
+    private CompactJson() {
+    }
+
+    public static JsonObject compact(JsonObject data) {
+        if (data == null) {
+            return null;
+        }
+        return new JsonObject(compactMap(data.getMap()));
+    }
+
+    private static Map<String, Object> compactMap(Map<String, Object> map) {
+        final Map<String, Object> result = LinkedHashMap.newLinkedHashMap(map.size());
+        for (Map.Entry<String, Object> e : map.entrySet()) {
+            result.put(e.getKey().intern(), compactValue(e.getValue()));
+        }
+        return result;
+    }
+
+    private static List<Object> compactList(List<Object> list) {
+        final List<Object> result = new ArrayList<>(list.size());
+        for (Object o : list) {
+            result.add(compactValue(o));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object compactValue(Object value) {
+        if (value instanceof String s) {
+            return s.length() <= MAX_INTERNED_LENGTH ? s.intern() : s;
+        }
+        if (value instanceof JsonObject o) {
+            return new JsonObject(compactMap(o.getMap()));
+        }
+        if (value instanceof JsonArray a) {
+            return new JsonArray(compactList(a.getList()));
+        }
+        if (value instanceof Map<?, ?> m) {
+            return compactMap((Map<String, Object>) m);
+        }
+        if (value instanceof List<?> l) {
+            return compactList((List<Object>) l);
+        }
+        return value;
+    }
+}
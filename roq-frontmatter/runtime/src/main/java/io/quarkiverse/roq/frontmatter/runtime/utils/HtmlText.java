@@ -0,0 +1,320 @@
+package io.quarkiverse.roq.frontmatter.runtime.utils;
+
+/**
+ * Single pass extraction of the text from html content (tags are everything from a {@code <} to the next {@code >}).
+ * <p>
+ * Words are the sequences of {@code [a-zA-Z0-9_]} characters, and word counting can stop as soon as a limit is reached,
+ * so that an abstract doesn't have to process the whole content.
+ */
+public final class HtmlText {
+
+    private static final String ELLIPSIS = "...";
+    private static final String[] BLOCK_TAGS = { "p", "h1", "h2", "h3", "h4", "h5", "h6", "div", "blockquote", "ul",
+            "ol", "table" };
+
+    private HtmlText() {
+    }
+
+    /**
+     * @return the text without the html tags
+     */
+    public static String strip(String html) {
+        if (html.indexOf('<') < 0) {
+            return html;
+        }
+        final StringBuilder sb = new StringBuilder(html.length());
+        final TextReader reader = new TextReader(html);
+        for (int c; (c = reader.read()) >= 0;) {
+            sb.append((char) c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the text without the html tags, with line breaks for {@code <br>} and closing blocks,
+     *         decoded common entities and normalized spaces
+     */
+    public static String toPlainText(String html) {
+        final StringBuilder text = new StringBuilder(html.length());
+        final int length = html.length();
+        int pos = 0;
+        boolean noMoreTags = false;
+        while (pos < length) {
+            final char c = html.charAt(pos);
+            if (c == '<' && !noMoreTags) {
+                final int end = html.indexOf('>', pos + 1);
+                if (end < 0) {
+                    noMoreTags = true;
+                } else {
+                    appendTagBreaks(text, html, pos + 1, end);
+                    pos = end + 1;
+                    continue;
+                }
+            }
+            text.append(c);
+            pos++;
+        }
+        return normalize(text);
+    }
+
+    /**
+     * @return the number of words in the given text
+     */
+    public static long countWords(CharSequence text) {
+        long count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            final boolean w = isWordChar(text.charAt(i));
+            if (w && !inWord) {
+                count++;
+            }
+            inWord = w;
+        }
+        return count;
+    }
+
+    /**
+     * @return the text limited to the given number of words, with "..." if truncated
+     */
+    public static String wordLimit(String text, int limit) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            final boolean w = isWordChar(text.charAt(i));
+            if (inWord && !w && words == limit) {
+                return text.substring(0, i).trim() + ELLIPSIS;
+            }
+            if (w && !inWord) {
+                words++;
+            }
+            inWord = w;
+        }
+        return text;
+    }
+
+    /**
+     * Same as {@code wordLimit(strip(html), limit)}, the content after the limit is not processed.
+     */
+    public static String textAbstract(String html, int limit) {
+        final StringBuilder sb = new StringBuilder();
+        final TextReader reader = new TextReader(html);
+        int words = 0;
+        boolean inWord = false;
+        for (int c; (c = reader.read()) >= 0;) {
+            final boolean w = isWordChar(c);
+            if (inWord && !w && words == limit) {
+                return sb.toString().trim() + ELLIPSIS;
+            }
+            if (w && !inWord) {
+                words++;
+            }
+            inWord = w;
+            sb.append((char) c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Count the words and compute the abstract of the html content in a single pass.
+     */
+    public static Summary summarize(String html, int abstractLimit) {
+        final StringBuilder sb = new StringBuilder();
+        final TextReader reader = new TextReader(html);
+        String textAbstract = null;
+        long words = 0;
+        boolean inWord = false;
+        for (int c; (c = reader.read()) >= 0;) {
+            final boolean w = isWordChar(c);
+            if (textAbstract == null) {
+                if (inWord && !w && words == abstractLimit) {
+                    textAbstract = sb.toString().trim() + ELLIPSIS;
+                } else {
+                    sb.append((char) c);
+                }
+            }
+            if (w && !inWord) {
+                words++;
+            }
+            inWord = w;
+        }
+        return new Summary(words, textAbstract != null ? textAbstract : sb.toString());
+    }
+
+    /**
+     * @param words the number of words
+     * @param textAbstract the text limited to the abstract words, with "..." if truncated
+     */
+    public record Summary(long words, String textAbstract) {
+    }
+
+    private static boolean isWordChar(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static void appendTagBreaks(StringBuilder text, String html, int start, int end) {
+        if (html.charAt(start) == '/') {
+            final int nameEnd = nameEnd(html, start + 1, end);
+            if (isBlank(html, nameEnd, end)) {
+                if (equalsIgnoreCase(html, start + 1, nameEnd, "li")) {
+                    text.append('\n');
+                    return;
+                }
+                for (String tag : BLOCK_TAGS) {
+                    if (equalsIgnoreCase(html, start + 1, nameEnd, tag)) {
+                        text.append("\n\n");
+                        return;
+                    }
+                }
+            }
+            return;
+        }
+        if (end - start >= 2 && equalsIgnoreCase(html, start, start + 2, "br")) {
+            int i = start + 2;
+            while (i < end && isSpace(html.charAt(i))) {
+                i++;
+            }
+            if (i < end && html.charAt(i) == '/') {
+                i++;
+            }
+            if (i == end) {
+                text.append('\n');
+            }
+        }
+    }
+
+    /**
+     * Decode the common entities, collapse spaces, remove trailing spaces, limit consecutive line breaks to 2 and strip.
+     */
+    private static String normalize(CharSequence text) {
+        final StringBuilder out = new StringBuilder(text.length());
+        final int length = text.length();
+        boolean space = false;
+        int newLines = 0;
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i++);
+            if (c == '&') {
+                if (startsWith(text, i, "amp;")) {
+                    i += 4;
+                    // Same as decoding &amp; before the other entities
+                    final int decoded = decodeEntity(text, i);
+                    if (decoded >= 0) {
+                        c = (char) decoded;
+                        i += entityLength(decoded);
+                    }
+                } else {
+                    final int decoded = decodeEntity(text, i);
+                    if (decoded >= 0) {
+                        c = (char) decoded;
+                        i += entityLength(decoded);
+                    }
+                }
+            }
+            if (c == ' ' || c == '\t') {
+                space = true;
+            } else if (c == '\n') {
+                space = false;
+                newLines++;
+            } else {
+                for (int n = Math.min(newLines, 2); n > 0; n--) {
+                    out.append('\n');
+                }
+                if (space) {
+                    out.append(' ');
+                }
+                out.append(c);
+                newLines = 0;
+                space = false;
+            }
+        }
+        return out.toString().strip();
+    }
+
+    private static int decodeEntity(CharSequence text, int i) {
+        if (startsWith(text, i, "quot;")) {
+            return '"';
+        }
+        if (startsWith(text, i, "#39;")) {
+            return '\'';
+        }
+        if (startsWith(text, i, "nbsp;")) {
+            return ' ';
+        }
+        return -1;
+    }
+
+    private static int entityLength(int decoded) {
+        return switch (decoded) {
+            case '"', ' ' -> 5;
+            default -> 4;
+        };
+    }
+
+    private static int nameEnd(String html, int start, int end) {
+        int i = start;
+        while (i < end && Character.isLetterOrDigit(html.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isBlank(String html, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isSpace(html.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean equalsIgnoreCase(String html, int start, int end, String name) {
+        return end - start == name.length() && html.regionMatches(true, start, name, 0, name.length());
+    }
+
+    private static boolean startsWith(CharSequence text, int i, String prefix) {
+        if (i + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int j = 0; j < prefix.length(); j++) {
+            if (text.charAt(i + j) != prefix.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the text characters of html content, skipping the tags.
+     */
+    private static final class TextReader {
+        private final String html;
+        private int pos;
+        private boolean noMoreTags;
+
+        private TextReader(String html) {
+            this.html = html;
+        }
+
+        int read() {
+            while (pos < html.length()) {
+                final char c = html.charAt(pos);
+                if (c == '<' && !noMoreTags) {
+                    final int end = html.indexOf('>', pos + 1);
+                    if (end >= 0) {
+                        pos = end + 1;
+                        continue;
+                    }
+                    // Unclosed, same for all the following ones
+                    noMoreTags = true;
+                }
+                pos++;
+                return c;
+            }
+            return -1;
+        }
+    }
+}
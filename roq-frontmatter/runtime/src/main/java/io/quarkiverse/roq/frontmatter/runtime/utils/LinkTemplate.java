@@ -0,0 +1,210 @@
+package io.quarkiverse.roq.frontmatter.runtime.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import io.quarkiverse.roq.frontmatter.runtime.utils.TemplateLink.LinkData;
+
+/**
+ * A link template (e.g. {@code :collection/:year/:slug~3}) parsed once into literals and placeholders, so that it can
+ * be resolved for each page in a single pass.
+ * <p>
+ * A placeholder is a {@code :} followed by a letter, it is resolved with the longest known placeholder it starts with
+ * (e.g. {@code :year-} is {@code :year} followed by {@code -}). It may be followed by a truncation ({@code :slug~3})
+ * or, for {@code :dir}, by a slice ({@code :dir[1]}).
+ */
+final class LinkTemplate {
+
+    static final Set<String> TRUNCATABLE_PLACEHOLDERS = Set.of(":slug", ":Slug", ":name", ":Name");
+    private static final String DIR = ":dir";
+
+    private final String template;
+    private final Object[] segments;
+
+    private LinkTemplate(String template, Object[] segments) {
+        this.template = template;
+        this.segments = segments;
+    }
+
+    interface Placeholders {
+        /**
+         * @return the value supplier for this placeholder or null if it is not a known placeholder
+         */
+        Supplier<String> get(String key);
+
+        Collection<String> keys();
+    }
+
+    static LinkTemplate compile(String template) {
+        final List<Object> segments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        final int length = template.length();
+        int i = 0;
+        while (i < length) {
+            final char c = template.charAt(i);
+            if (c != ':' || i + 1 >= length || !isLetter(template.charAt(i + 1))) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            int end = i + 2;
+            while (end < length && isNameChar(template.charAt(end))) {
+                end++;
+            }
+            final String name = template.substring(i, end);
+            final boolean bang = end < length && template.charAt(end) == '!';
+            if (bang) {
+                end++;
+            }
+            int truncation = -1;
+            int slice = -1;
+            int suffixEnd = end;
+            if (!bang && end + 1 < length && template.charAt(end) == '~' && isDigit(template.charAt(end + 1))) {
+                suffixEnd = digitsEnd(template, end + 1);
+                truncation = Integer.parseInt(template.substring(end + 1, suffixEnd));
+            } else if (!bang && end + 1 < length && template.charAt(end) == '[' && isDigit(template.charAt(end + 1))) {
+                final int digitsEnd = digitsEnd(template, end + 1);
+                if (digitsEnd < length && template.charAt(digitsEnd) == ']') {
+                    suffixEnd = digitsEnd + 1;
+                    slice = Integer.parseInt(template.substring(end + 1, digitsEnd));
+                }
+            }
+            if (!literal.isEmpty()) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(placeholder(name, bang, template.substring(end, suffixEnd), truncation, slice));
+            i = suffixEnd;
+        }
+        if (!literal.isEmpty()) {
+            segments.add(literal.toString());
+        }
+        return new LinkTemplate(template, segments.toArray());
+    }
+
+    private static Placeholder placeholder(String name, boolean bang, String suffix, int truncation, int slice) {
+        final List<Candidate> candidates = new ArrayList<>();
+        if (bang) {
+            candidates.add(new Candidate(name + "!", suffix, -1, -1));
+        }
+        candidates.add(new Candidate(name, (bang ? "!" : ""), truncation, slice));
+        for (int end = name.length() - 1; end >= 2; end--) {
+            candidates.add(new Candidate(name.substring(0, end), name.substring(end) + (bang ? "!" : "") + suffix, -1, -1));
+        }
+        return new Placeholder(name + suffix, candidates.toArray(new Candidate[0]));
+    }
+
+    String template() {
+        return template;
+    }
+
+    String resolve(Placeholders placeholders, LinkData dataForErrors) {
+        final StringBuilder sb = new StringBuilder(template.length() + 32);
+        for (Object segment : segments) {
+            if (segment instanceof String literal) {
+                sb.append(literal);
+            } else {
+                resolve(sb, (Placeholder) segment, placeholders, dataForErrors);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void resolve(StringBuilder sb, Placeholder placeholder, Placeholders placeholders, LinkData dataForErrors) {
+        for (Candidate candidate : placeholder.candidates()) {
+            final Supplier<String> supplier = placeholders.get(candidate.key());
+            if (supplier == null) {
+                continue;
+            }
+            final String key = candidate.key();
+            if (candidate.truncation() >= 0) {
+                if (candidate.truncation() < 1) {
+                    TemplateLink.throwError("Invalid truncation value",
+                            "Truncation value must be > 0 in '%s'.".formatted(placeholder.token()),
+                            "Use a positive number, e.g., ':slug~3'.",
+                            template, dataForErrors);
+                }
+                if (!TRUNCATABLE_PLACEHOLDERS.contains(key)) {
+                    TemplateLink.throwError("Truncation not supported",
+                            "The ~W truncation syntax is not supported on '%s'.".formatted(key),
+                            "Truncation is only supported on: %s.".formatted(
+                                    String.join(", ", TRUNCATABLE_PLACEHOLDERS)),
+                            template, dataForErrors);
+                }
+            }
+            final String value = supplier.get();
+            if (value == null) {
+                TemplateLink.throwError("Placeholder not resolved",
+                        "Placeholder '%s' resolved to null.".formatted(key),
+                        "Provide a value for '%s' or remove it from the template.".formatted(key),
+                        template, dataForErrors);
+            }
+            if (candidate.truncation() >= 0) {
+                sb.append(TemplateLink.truncateWords(value, candidate.truncation()));
+            } else if (candidate.slice() >= 0 && DIR.equals(key)) {
+                appendDirSlice(sb, value, candidate.slice());
+            } else {
+                sb.append(value);
+                if (candidate.slice() >= 0) {
+                    sb.append('[').append(candidate.slice()).append(']');
+                }
+            }
+            sb.append(candidate.rest());
+            return;
+        }
+        TemplateLink.throwError("Invalid placeholder",
+                "Unknown placeholder '%s' in template '%s'.".formatted(placeholder.token(), template),
+                "Valid placeholders: %s".formatted(String.join(", ", placeholders.keys())),
+                template, dataForErrors);
+    }
+
+    private static void appendDirSlice(StringBuilder sb, String dir, int from) {
+        int start = 0;
+        for (int i = 0; i < from; i++) {
+            final int slash = dir.indexOf('/', start);
+            if (slash < 0) {
+                return;
+            }
+            start = slash + 1;
+        }
+        sb.append(dir, start, dir.length());
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNameChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '-';
+    }
+
+    private static int digitsEnd(String s, int start) {
+        int i = start;
+        while (i < s.length() && isDigit(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @param token the placeholder as written in the template (for errors)
+     * @param candidates the possible placeholders, longest first
+     */
+    private record Placeholder(String token, Candidate[] candidates) {
+    }
+
+    /**
+     * @param rest the literal text following the placeholder
+     * @param truncation the ~W truncation or -1
+     * @param slice the [N] slice or -1
+     */
+    private record Candidate(String key, String rest, int truncation, int slice) {
+    }
+}
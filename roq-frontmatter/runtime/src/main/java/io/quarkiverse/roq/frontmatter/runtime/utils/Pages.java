@@ -1,13 +1,14 @@
 package io.quarkiverse.roq.frontmatter.runtime.utils;
 
+import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.CACHE;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.IMAGE;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.IMG;
 import static io.quarkiverse.roq.frontmatter.runtime.RoqFrontMatterKeys.PICTURE;
-import static io.quarkiverse.roq.frontmatter.runtime.model.PageFiles.slugifyFile;
 
 import io.quarkiverse.roq.exception.RoqException;
 import io.quarkiverse.roq.frontmatter.runtime.exception.RoqStaticFileException;
 import io.quarkiverse.roq.frontmatter.runtime.model.Page;
+import io.quarkiverse.roq.frontmatter.runtime.model.PageFiles;
 import io.quarkiverse.roq.frontmatter.runtime.model.RoqUrl;
 import io.vertx.core.json.JsonObject;
 
@@ -25,7 +26,7 @@ public final class Pages {
                     .detail("'%s' not found in %s (directory is empty).".formatted(name, fileContext))
                     .hint("Add the file to the page directory or check the file name."));
         }
-        final String f = normaliseName(name, page.source().files().slugified());
+        final String f = page.source().files().normalise(name);
         if (page.source().fileExists(f)) {
             return page.url().resolve(f);
         } else {
@@ -37,19 +38,21 @@ public final class Pages {
     }
 
     public static String normaliseName(Object name, boolean slugify) {
-        final String clean = String.valueOf(name).replace("./", "");
-        if (slugify) {
-            return slugifyFile(clean);
-        } else {
-            return clean;
-        }
-
+        return PageFiles.normalise(String.valueOf(name), slugify);
     }
 
     public static RoqUrl resolvePublicFile(Page page, Object name) {
         return resolveFile(page, name, "the public directory");
     }
 
+    /**
+     * @return false if the page opted out of caching with `cache: false`
+     */
+    public static boolean isCacheable(Page page) {
+        final Object cache = page.data(CACHE);
+        return cache == null || !"false".equalsIgnoreCase(cache.toString());
+    }
+
     public static String getImgFromData(JsonObject data) {
         return data.getString(IMG, data.getString(IMAGE, data.getString(PICTURE)));
     }
@@ -9,12 +9,15 @@ import static io.quarkiverse.tools.stringpaths.StringPaths.removeLeadingSlash;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import io.quarkiverse.roq.exception.RoqException;
@@ -28,10 +31,6 @@ public class TemplateLink {
     private static final DateTimeFormatter YEAR_FORMAT = DateTimeFormatter.ofPattern("yyyy");
     private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM");
     private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("dd");
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(":[a-zA-Z][a-zA-Z0-9-]*(~\\d+|\\[\\d+\\])?");
-    private static final java.util.Set<String> TRUNCATABLE_PLACEHOLDERS = java.util.Set.of(":slug", ":Slug", ":name",
-            ":Name");
-    private static final Pattern DIR_SLICE_PATTERN = Pattern.compile(":dir\\[(\\d+)\\]");
     private static final Pattern FILE_NAME_DATE_PATTERN = Pattern.compile("(\\d{4}-\\d{1,2}-\\d{1,2})-");
 
     public interface LinkData {
@@ -50,66 +49,116 @@ public class TemplateLink {
             JsonObject data) implements LinkData {
     }
 
-    private static Map<String, Supplier<String>> withBasePlaceHolders(LinkData data, Map<String, Supplier<String>> other) {
-        Map<String, Supplier<String>> result = new HashMap<>(Map.ofEntries(
-                Map.entry(":collection", () -> {
-                    if (data.collection() == null) {
-                        throw new RoqTemplateLinkException(
-                                RoqException.builder("Invalid link placeholder")
-                                        .sourceInfo(data.pageSource().template().file().toSourceInfo())
-                                        .detail("The ':collection' placeholder is used in the link template, but this page does not belong to a collection.")
-                                        .hint("Remove ':collection' from the link template, or move this page into a collection."));
-                    }
-                    return data.collection();
-                }),
-                Map.entry(":year",
-                        () -> Optional.ofNullable(data.pageSource().date()).orElse(ZonedDateTime.now()).format(YEAR_FORMAT)),
-                Map.entry(":month",
-                        () -> Optional.ofNullable(data.pageSource().date()).orElse(ZonedDateTime.now()).format(MONTH_FORMAT)),
-                Map.entry(":day",
-                        () -> Optional.ofNullable(data.pageSource().date()).orElse(ZonedDateTime.now()).format(DAY_FORMAT)),
-                Map.entry(":dir", () -> {
+    private static final Map<String, Function<LinkData, String>> BASE_PLACEHOLDERS = Map.ofEntries(
+            Map.entry(":collection", data -> {
+                if (data.collection() == null) {
+                    throw new RoqTemplateLinkException(
+                            RoqException.builder("Invalid link placeholder")
+                                    .sourceInfo(data.pageSource().template().file().toSourceInfo())
+                                    .detail("The ':collection' placeholder is used in the link template, but this page does not belong to a collection.")
+                                    .hint("Remove ':collection' from the link template, or move this page into a collection."));
+                }
+                return data.collection();
+            }),
+            Map.entry(":year",
+                    data -> Optional.ofNullable(data.pageSource().date()).orElse(ZonedDateTime.now()).format(YEAR_FORMAT)),
+            Map.entry(":month",
+                    data -> Optional.ofNullable(data.pageSource().date()).orElse(ZonedDateTime.now()).format(MONTH_FORMAT)),
+            Map.entry(":day",
+                    data -> Optional.ofNullable(data.pageSource().date()).orElse(ZonedDateTime.now()).format(DAY_FORMAT)),
+            Map.entry(":dir", data -> {
+                String path = removeExtension(data.pageSource().path());
+                int lastSlash = path.lastIndexOf('/');
+                if (lastSlash < 0) {
+                    return "";
+                }
+                String dir = path.substring(0, lastSlash);
+                if (data.pageSource().isIndex()) {
+                    int parentSlash = dir.lastIndexOf('/');
+                    dir = parentSlash >= 0 ? dir.substring(0, parentSlash) : "";
+                }
+                return dir.isEmpty() ? "" : StringPaths.slugify(removeDate(dir), true, true).toLowerCase();
+            }),
+            Map.entry(":raw-path", data -> removeExtension(data.pageSource().path())),
+            Map.entry(":path", data -> {
+                String explicitSlug = data.data().getString(SLUG);
+                if (explicitSlug != null && !explicitSlug.isBlank()) {
                     String path = removeExtension(data.pageSource().path());
                     int lastSlash = path.lastIndexOf('/');
-                    if (lastSlash < 0) {
-                        return "";
-                    }
-                    String dir = path.substring(0, lastSlash);
+                    String dir = lastSlash >= 0 ? path.substring(0, lastSlash) : "";
                     if (data.pageSource().isIndex()) {
                         int parentSlash = dir.lastIndexOf('/');
                         dir = parentSlash >= 0 ? dir.substring(0, parentSlash) : "";
                     }
-                    return dir.isEmpty() ? "" : StringPaths.slugify(removeDate(dir), true, true).toLowerCase();
-                }),
-                Map.entry(":raw-path", () -> removeExtension(data.pageSource().path())),
-                Map.entry(":path", () -> {
-                    String explicitSlug = data.data().getString(SLUG);
-                    if (explicitSlug != null && !explicitSlug.isBlank()) {
-                        String path = removeExtension(data.pageSource().path());
-                        int lastSlash = path.lastIndexOf('/');
-                        String dir = lastSlash >= 0 ? path.substring(0, lastSlash) : "";
-                        if (data.pageSource().isIndex()) {
-                            int parentSlash = dir.lastIndexOf('/');
-                            dir = parentSlash >= 0 ? dir.substring(0, parentSlash) : "";
-                        }
-                        dir = dir.isEmpty() ? "" : StringPaths.slugify(dir, true, false).toLowerCase();
-                        return StringPaths.join(dir, slugify(explicitSlug).toLowerCase());
-                    }
-                    return StringPaths.slugify(removeExtension(data.pageSource().path()), true, false).toLowerCase();
-                }),
-                Map.entry(":ext",
-                        () -> data.pageSource().isTargetHtml() ? ""
-                                : "." + data.pageSource().extension()),
-                Map.entry(":ext!",
-                        () -> data.pageSource().isTargetHtml() ? ".html" : "." + data.pageSource().extension()),
-                Map.entry(":slug", () -> resolveSlug(data).toLowerCase()),
-                Map.entry(":Slug", () -> resolveSlug(data)),
-                Map.entry(":name", () -> resolveName(data).toLowerCase()),
-                Map.entry(":Name", () -> resolveName(data))));
-        if (other != null) {
-            result.putAll(other);
+                    dir = dir.isEmpty() ? "" : StringPaths.slugify(dir, true, false).toLowerCase();
+                    return StringPaths.join(dir, slugify(explicitSlug).toLowerCase());
+                }
+                return StringPaths.slugify(removeExtension(data.pageSource().path()), true, false).toLowerCase();
+            }),
+            Map.entry(":ext",
+                    data -> data.pageSource().isTargetHtml() ? ""
+                            : "." + data.pageSource().extension()),
+            Map.entry(":ext!",
+                    data -> data.pageSource().isTargetHtml() ? ".html" : "." + data.pageSource().extension()),
+            Map.entry(":slug", data -> resolveSlug(data).toLowerCase()),
+            Map.entry(":Slug", data -> resolveSlug(data)),
+            Map.entry(":name", data -> resolveName(data).toLowerCase()),
+            Map.entry(":Name", data -> resolveName(data)));
+
+    // Link templates come from the site config and the front matter, there are few distinct ones
+    private static final int MAX_COMPILED_TEMPLATES = 4096;
+    private static final Map<String, LinkTemplate> COMPILED_TEMPLATES = new ConcurrentHashMap<>();
+
+    static LinkTemplate compiled(String template) {
+        final LinkTemplate compiled = COMPILED_TEMPLATES.get(template);
+        if (compiled != null) {
+            return compiled;
+        }
+        if (COMPILED_TEMPLATES.size() >= MAX_COMPILED_TEMPLATES) {
+            return LinkTemplate.compile(template);
+        }
+        return COMPILED_TEMPLATES.computeIfAbsent(template, LinkTemplate::compile);
+    }
+
+    /**
+     * The base placeholders for the given page, the other placeholders take precedence.
+     */
+    private record PagePlaceholders(LinkData data, Map<String, Supplier<String>> other) implements LinkTemplate.Placeholders {
+
+        @Override
+        public Supplier<String> get(String key) {
+            if (other != null) {
+                final Supplier<String> supplier = other.get(key);
+                if (supplier != null) {
+                    return supplier;
+                }
+            }
+            final Function<LinkData, String> placeholder = BASE_PLACEHOLDERS.get(key);
+            return placeholder == null ? null : () -> placeholder.apply(data);
+        }
+
+        @Override
+        public Collection<String> keys() {
+            final Set<String> keys = new TreeSet<>(BASE_PLACEHOLDERS.keySet());
+            if (other != null) {
+                keys.addAll(other.keySet());
+            }
+            return keys;
+        }
+    }
+
+    private record ValuePlaceholders(Map<String, String> values) implements LinkTemplate.Placeholders {
+
+        @Override
+        public Supplier<String> get(String key) {
+            final String value = values.get(key);
+            return value == null && !values.containsKey(key) ? null : () -> value;
+        }
+
+        @Override
+        public Collection<String> keys() {
+            return values.keySet();
         }
-        return result;
     }
 
     public static String resolveName(PageSource pageSource) {
@@ -143,12 +192,12 @@ public class TemplateLink {
     }
 
     public static String pageLink(String basePath, String template, PageLinkData data) {
-        return linkInternal(basePath, template, data, withBasePlaceHolders(data, null));
+        return linkInternal(basePath, template, data, new PagePlaceholders(data, null));
     }
 
     public static String paginateLink(String basePath, String template, PaginateLinkData data) {
         return linkInternal(basePath, template != null ? template : DEFAULT_PAGINATE_LINK_TEMPLATE, data,
-                withBasePlaceHolders(data, Map.of(
+                new PagePlaceholders(data, Map.of(
                         ":page",
                         () -> Objects.requireNonNull(data.page(), "page index is required to build the link"))));
     }
@@ -156,18 +205,16 @@ public class TemplateLink {
     public static String link(String basePath, String template, String defaultTemplate, LinkData data,
             Map<String, Supplier<String>> placeHolders) {
         return linkInternal(basePath, template != null ? template : defaultTemplate, data,
-                withBasePlaceHolders(data, placeHolders));
+                new PagePlaceholders(data, placeHolders));
     }
 
     private static String linkInternal(String basePath, String template,
-            LinkData data, Map<String, Supplier<String>> mapping) {
-        String link = template;
-        link = resolvePlaceholders(link, mapping, template, data);
-        link = link.replaceAll("//+", "/");
-
-        if (link.endsWith("/index") || link.endsWith("/index.html")
-                || link.equals("index") || link.equals("index.html")) {
-            link = link.replaceFirst("index(\\.html)?$", "");
+            LinkData data, LinkTemplate.Placeholders placeholders) {
+        String link = collapseSlashes(compiled(template).resolve(placeholders, data));
+        if (link.endsWith("/index") || link.equals("index")) {
+            link = link.substring(0, link.length() - "index".length());
+        } else if (link.endsWith("/index.html") || link.equals("index.html")) {
+            link = link.substring(0, link.length() - "index.html".length());
         }
         return addTrailingSlashIfNoExt(removeLeadingSlash(StringPaths.join(basePath, link)));
     }
@@ -181,81 +228,24 @@ public class TemplateLink {
      * @return the resolved string
      */
     public static String resolvePattern(String pattern, Map<String, String> values) {
-        Map<String, Supplier<String>> suppliers = new HashMap<>();
-        values.forEach((k, v) -> suppliers.put(k, () -> v));
-        return resolvePlaceholders(pattern, suppliers, pattern, null);
+        return compiled(pattern).resolve(new ValuePlaceholders(values), null);
     }
 
-    private static String resolvePlaceholders(String template, Map<String, Supplier<String>> mapping,
-            String templateForErrors, LinkData dataForErrors) {
-        String result = template;
-
-        // Resolve :dir[N] slices before the main loop (so :dir replacement doesn't corrupt them)
-        Supplier<String> dirSupplier = mapping.get(":dir");
-        if (dirSupplier != null) {
-            Matcher dirSliceMatcher = DIR_SLICE_PATTERN.matcher(result);
-            String fullDir = dirSupplier.get();
-            while (dirSliceMatcher.find()) {
-                int fromIndex = Integer.parseInt(dirSliceMatcher.group(1));
-                String[] segments = fullDir.isEmpty() ? new String[0] : fullDir.split("/");
-                String sliced = fromIndex >= segments.length ? ""
-                        : String.join("/", java.util.Arrays.copyOfRange(segments, fromIndex, segments.length));
-                result = result.replace(dirSliceMatcher.group(), sliced);
-                dirSliceMatcher = DIR_SLICE_PATTERN.matcher(result);
-            }
+    private static String collapseSlashes(String link) {
+        if (!link.contains("//")) {
+            return link;
         }
-
-        for (Map.Entry<String, Supplier<String>> entry : mapping.entrySet()) {
-            String key = entry.getKey();
-            Matcher truncMatcher = Pattern.compile(Pattern.quote(key) + "~(\\d+)").matcher(result);
-            if (truncMatcher.find()) {
-                int wordLimit = Integer.parseInt(truncMatcher.group(1));
-                if (wordLimit < 1) {
-                    throwError("Invalid truncation value",
-                            "Truncation value must be > 0 in '%s'.".formatted(truncMatcher.group()),
-                            "Use a positive number, e.g., ':slug~3'.",
-                            templateForErrors, dataForErrors);
-                }
-                if (!TRUNCATABLE_PLACEHOLDERS.contains(key)) {
-                    throwError("Truncation not supported",
-                            "The ~W truncation syntax is not supported on '%s'.".formatted(key),
-                            "Truncation is only supported on: %s.".formatted(
-                                    String.join(", ", TRUNCATABLE_PLACEHOLDERS)),
-                            templateForErrors, dataForErrors);
-                }
-                String replacement = entry.getValue().get();
-                if (replacement == null) {
-                    throwError("Placeholder not resolved",
-                            "Placeholder '%s' resolved to null.".formatted(key),
-                            "Provide a value for '%s' or remove it from the template.".formatted(key),
-                            templateForErrors, dataForErrors);
-                }
-                result = result.replace(truncMatcher.group(), truncateWords(replacement, wordLimit));
-            } else if (result.contains(key)) {
-                String replacement = entry.getValue().get();
-                if (replacement == null) {
-                    throwError("Placeholder not resolved",
-                            "Placeholder '%s' resolved to null.".formatted(key),
-                            "Provide a value for '%s' or remove it from the template.".formatted(key),
-                            templateForErrors, dataForErrors);
-                }
-                result = result.replace(key, replacement);
-            }
-        }
-
-        if (result.contains(":")) {
-            Matcher matcher = PLACEHOLDER_PATTERN.matcher(result);
-            if (matcher.find()) {
-                throwError("Invalid placeholder",
-                        "Unknown placeholder '%s' in template '%s'.".formatted(matcher.group(), templateForErrors),
-                        "Valid placeholders: %s".formatted(String.join(", ", mapping.keySet())),
-                        templateForErrors, dataForErrors);
+        final StringBuilder sb = new StringBuilder(link.length());
+        for (int i = 0; i < link.length(); i++) {
+            final char c = link.charAt(i);
+            if (c != '/' || sb.isEmpty() || sb.charAt(sb.length() - 1) != '/') {
+                sb.append(c);
             }
         }
-        return result;
+        return sb.toString();
     }
 
-    private static void throwError(String title, String detail, String hint, String template, LinkData data) {
+    static void throwError(String title, String detail, String hint, String template, LinkData data) {
         RoqException.Builder builder = RoqException.builder(title);
         if (data != null) {
             builder.sourceInfo(data.pageSource().template().file().toSourceInfo());
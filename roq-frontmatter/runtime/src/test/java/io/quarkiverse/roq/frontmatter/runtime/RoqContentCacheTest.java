@@ -0,0 +1,139 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.roq.frontmatter.runtime.model.DocumentPage;
+import io.quarkiverse.roq.frontmatter.runtime.model.Page;
+import io.quarkiverse.roq.frontmatter.runtime.model.PageSource;
+import io.quarkiverse.roq.frontmatter.runtime.model.RootUrl;
+import io.quarkiverse.roq.frontmatter.runtime.model.RoqUrl;
+import io.quarkiverse.roq.frontmatter.runtime.model.TemplateSource;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Pure unit tests (no Quarkus runtime).
+ * <p>
+ * Features tested: RoqContentCache shares the rendered content between page instances and records hits/misses, evicts
+ * contents over the size budget, can be disabled and renders a content once for concurrent requests.
+ */
+@DisplayName("Roq FrontMatter - Content cache")
+public class RoqContentCacheTest {
+
+    private static DocumentPage post(String name) {
+        TemplateSource template = TemplateSource.create("posts/" + name + ".md", "markdown", null,
+                "posts/" + name + ".md", "posts/" + name + ".html", false, true, false, false);
+        return new DocumentPage("posts", new RoqUrl(new RootUrl("https://example.com", "/"), "posts/" + name + "/"),
+                new PageSource(template, false, null, null, false), new JsonObject(), false);
+    }
+
+    @Test
+    @DisplayName("Content is rendered once for equal pages")
+    public void testCache() {
+        RoqContentCache cache = new RoqContentCache(1024 * 1024);
+        AtomicInteger renders = new AtomicInteger();
+        Function<Page, String> renderer = p -> {
+            renders.incrementAndGet();
+            return "<p>a</p>";
+        };
+        assertEquals("<p>a</p>", cache.get(post("a"), renderer));
+        assertEquals("<p>a</p>", cache.get(post("a"), renderer));
+        assertEquals(1, renders.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+
+        assertEquals("<p>b</p>", cache.get(post("b"), p -> "<p>b</p>"));
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Contents are evicted when the maximum size is reached")
+    public void testEviction() {
+        // Each entry weighs about 2 KB, only a few of them fit
+        RoqContentCache cache = new RoqContentCache(5 * 1024);
+        String content = "a".repeat(1000);
+        for (int i = 0; i < 10; i++) {
+            cache.get(post("p" + i), p -> content);
+        }
+        cache.cleanUp();
+        assertTrue(cache.stats().evictionCount() >= 8, "evictions: " + cache.stats().evictionCount());
+        AtomicInteger renders = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            cache.get(post("p" + i), p -> {
+                renders.incrementAndGet();
+                return content;
+            });
+        }
+        assertTrue(renders.get() >= 8, "renders: " + renders.get());
+    }
+
+    @Test
+    @DisplayName("Contents are rendered on every call when the maximum size is 0")
+    public void testDisabled() {
+        RoqContentCache cache = new RoqContentCache(0);
+        AtomicInteger renders = new AtomicInteger();
+        Function<Page, String> renderer = p -> {
+            renders.incrementAndGet();
+            return "<p>a</p>";
+        };
+        assertEquals("<p>a</p>", cache.get(post("a"), renderer));
+        assertEquals("<p>a</p>", cache.get(post("a"), renderer));
+        assertEquals(2, renders.get());
+        assertEquals(0, cache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Concurrent requests wait for the content being rendered")
+    public void testConcurrentRendering() throws Exception {
+        RoqContentCache cache = new RoqContentCache(1024 * 1024);
+        AtomicInteger renders = new AtomicInteger();
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Page, String> renderer = p -> {
+            renders.incrementAndGet();
+            rendering.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "<p>a</p>";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get(post("a"), renderer), executor);
+            assertTrue(rendering.await(10, TimeUnit.SECONDS));
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get(post("a"), renderer), executor);
+            CompletableFuture<String> third = CompletableFuture.supplyAsync(() -> cache.get(post("a"), renderer), executor);
+            release.countDown();
+            assertEquals("<p>a</p>", first.get(10, TimeUnit.SECONDS));
+            assertEquals("<p>a</p>", second.get(10, TimeUnit.SECONDS));
+            assertEquals("<p>a</p>", third.get(10, TimeUnit.SECONDS));
+            assertEquals(1, renders.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A content rendered while rendering another one is not awaited")
+    public void testNestedRendering() {
+        RoqContentCache cache = new RoqContentCache(1024 * 1024);
+        // b needs a and a needs b, the nested rendering of a is done without waiting for the first one
+        Function<Page, String>[] renderers = new Function[2];
+        AtomicInteger depth = new AtomicInteger();
+        renderers[0] = p -> depth.incrementAndGet() > 2 ? "<p>a</p>" : cache.get(post("b"), renderers[1]);
+        renderers[1] = p -> cache.get(post("a"), renderers[0]);
+        assertEquals("<p>a</p>", cache.get(post("a"), renderers[0]));
+    }
+}
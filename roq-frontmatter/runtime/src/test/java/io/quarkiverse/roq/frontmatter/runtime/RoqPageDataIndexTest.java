@@ -0,0 +1,117 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@DisplayName("RoqPageDataIndex - binary index of the pages data")
+class RoqPageDataIndexTest {
+
+    @Test
+    @DisplayName("Pages data is read back by slot")
+    void testRoundTrip() {
+        List<JsonObject> data = pagesData(100);
+        RoqPageDataIndex index = new RoqPageDataIndex(ByteBuffer.wrap(RoqPageDataIndex.write(data)),
+                UnaryOperator.identity());
+        assertEquals(100, index.size());
+        for (int i = 0; i < data.size(); i++) {
+            assertEquals(data.get(i), index.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(-1));
+    }
+
+    @Test
+    @DisplayName("Decoded data is not kept by the index")
+    void testDecoded() {
+        AtomicInteger decoded = new AtomicInteger();
+        RoqPageDataIndex index = new RoqPageDataIndex(ByteBuffer.wrap(RoqPageDataIndex.write(pagesData(10))), d -> {
+            decoded.incrementAndGet();
+            return d.put("decoded", true);
+        });
+        JsonObject data = index.get(3);
+        assertTrue(data.getBoolean("decoded"));
+        assertNotSame(data, index.get(3));
+        assertEquals(data, index.get(3));
+        assertEquals(3, decoded.get());
+    }
+
+    @Test
+    @DisplayName("Empty index")
+    void testEmpty() {
+        RoqPageDataIndex index = new RoqPageDataIndex(ByteBuffer.wrap(RoqPageDataIndex.write(List.of())),
+                UnaryOperator.identity());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Invalid content is rejected")
+    void testInvalid() {
+        assertThrows(IllegalStateException.class,
+                () -> new RoqPageDataIndex(ByteBuffer.wrap(new byte[8]), UnaryOperator.identity()));
+    }
+
+    @Test
+    @DisplayName("Index resource is opened from the class loader")
+    void testOpen(@TempDir Path dir) throws IOException {
+        List<JsonObject> data = pagesData(3);
+        Path file = dir.resolve(RoqPageDataIndex.RESOURCE_PREFIX + "pages.bin");
+        Files.createDirectories(file.getParent());
+        Files.write(file, RoqPageDataIndex.write(data));
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+            RoqPageDataIndex index = RoqPageDataIndex.open(cl, RoqPageDataIndex.RESOURCE_PREFIX + "pages.bin",
+                    UnaryOperator.identity());
+            assertEquals(data.get(2), index.get(2));
+            assertThrows(IllegalStateException.class,
+                    () -> RoqPageDataIndex.open(cl, "missing.bin", UnaryOperator.identity()));
+        }
+    }
+
+    @Test
+    @DisplayName("Index resource is extracted from a jar")
+    void testOpenFromJar(@TempDir Path dir) throws IOException {
+        List<JsonObject> data = pagesData(3);
+        Path jar = dir.resolve("site.jar");
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new ZipEntry(RoqPageDataIndex.RESOURCE_PREFIX + "pages.bin"));
+            jarOut.write(RoqPageDataIndex.write(data));
+            jarOut.closeEntry();
+        }
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+            RoqPageDataIndex index = RoqPageDataIndex.open(cl, RoqPageDataIndex.RESOURCE_PREFIX + "pages.bin",
+                    UnaryOperator.identity());
+            assertEquals(3, index.size());
+            assertEquals(data.get(1), index.get(1));
+        }
+    }
+
+    private static List<JsonObject> pagesData(int count) {
+        List<JsonObject> data = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            data.add(new JsonObject()
+                    .put("title", "Post " + i + " – ünïcode")
+                    .put("layout", "post")
+                    .put("tags", new JsonArray().add("java").add("roq")));
+        }
+        return data;
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pure unit tests (no Quarkus runtime).
+ * <p>
+ * Features tested: RoqPageResolverHandler route table — every request path variant
+ * (leading/trailing slash) resolves to the same page link.
+ */
+@DisplayName("Roq FrontMatter - Page resolver route table")
+public class RoqPageResolverHandlerTest {
+
+    @Test
+    @DisplayName("routes resolve paths with and without leading and trailing slash")
+    public void testRoutes() {
+        Map<String, String> routes = RoqPageResolverHandler.routes(Map.of(
+                "posts/hello/", "hello",
+                "feed.xml", "feed"));
+        assertEquals("hello", routes.get("/posts/hello/"));
+        assertEquals("hello", routes.get("/posts/hello"));
+        assertEquals("hello", routes.get("posts/hello"));
+        assertEquals("feed", routes.get("/feed.xml"));
+        assertNull(routes.get("/feed.xml/"));
+        assertNull(routes.get("/posts"));
+    }
+
+    @Test
+    @DisplayName("routes keys are consistent with toLink")
+    public void testRoutesMatchToLink() {
+        Map<String, String> byLink = Map.of("a/b/", "ab", "c.html", "c", "d/", "d");
+        RoqPageResolverHandler.routes(byLink)
+                .forEach((path, page) -> assertEquals(byLink.get(RoqPageResolverHandler.toLink(path)), page));
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkiverse.roq.frontmatter.runtime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RoqRenderCache - cached locales")
+class RoqRenderCacheTest {
+
+    @Test
+    @DisplayName("Only the first locales are cached")
+    void testLocales() {
+        RoqRenderCache cache = new RoqRenderCache(1024);
+        assertTrue(cache.accepts(null));
+        for (int i = 0; i < RoqRenderCache.MAX_LOCALES; i++) {
+            assertTrue(cache.accepts("l" + i));
+        }
+        assertFalse(cache.accepts("other"));
+        assertFalse(cache.accepts("other"));
+        assertTrue(cache.accepts("l0"));
+    }
+
+    @Test
+    @DisplayName("Concurrent new locales don't exceed the bound")
+    void testConcurrentLocales() {
+        RoqRenderCache cache = new RoqRenderCache(1024);
+        AtomicInteger accepted = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final int thread = t;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (cache.accepts("t" + thread + "-" + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+        assertEquals(RoqRenderCache.MAX_LOCALES, accepted.get());
+    }
+}
@@ -0,0 +1,85 @@
+package io.quarkiverse.roq.frontmatter.runtime.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PageFiles - indexed file lookups")
+class PageFilesTest {
+
+    @Test
+    @DisplayName("Files are looked up by name")
+    void testContains() {
+        PageFiles files = new PageFiles(List.of("images/cover.png", "doc.pdf"), false);
+        assertTrue(files.contains("images/cover.png"));
+        assertTrue(files.contains("doc.pdf"));
+        assertFalse(files.contains("cover.png"));
+        assertFalse(files.contains(null));
+        assertEquals(2, files.size());
+        assertEquals(List.of("images/cover.png", "doc.pdf"), files.names());
+    }
+
+    @Test
+    @DisplayName("Names are normalised and remembered")
+    void testNormalise() {
+        PageFiles files = new PageFiles(List.of("cover.png"), false);
+        assertEquals("cover.png", files.normalise("./cover.png"));
+        assertSame(files.normalise("./cover.png"), files.normalise("./cover.png"));
+        assertEquals("null", files.normalise(null));
+    }
+
+    @Test
+    @DisplayName("Equal names and slugified flag are equal")
+    void testEquals() {
+        assertEquals(new PageFiles(List.of("a.png"), true), new PageFiles(new ArrayList<>(List.of("a.png")), true));
+        assertNotEquals(new PageFiles(List.of("a.png"), true), new PageFiles(List.of("a.png"), false));
+        assertTrue(PageFiles.empty().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Many files are indexed, the lookups match the names")
+    void testManyFiles() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            names.add("images/image-" + i + ".png");
+        }
+        PageFiles files = new PageFiles(names, false);
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(files.contains("images/image-" + i + ".png"));
+        }
+        assertFalse(files.contains("images/image-1000.png"));
+        assertFalse(files.contains(null));
+        assertEquals(names, files.names());
+    }
+
+    @Test
+    @DisplayName("Small and large lists give the same lookups")
+    void testSmallAndLarge() {
+        for (int size = 0; size <= PageFiles.MIN_INDEXED_NAMES + 1; size++) {
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                names.add("file-" + i + ".txt");
+            }
+            PageFiles files = new PageFiles(names, true);
+            for (int i = 0; i <= size; i++) {
+                assertEquals(i < size, files.contains("file-" + i + ".txt"));
+            }
+            assertEquals(size == 0, files.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Record and bean accessors, null names are kept")
+    void testAccessors() {
+        PageFiles files = new PageFiles(Arrays.asList("a.png", null), true);
+        assertSame(files.names(), files.getNames());
+        assertEquals(files.slugified(), files.isSlugified());
+        assertTrue(files.contains(null));
+        assertThrows(UnsupportedOperationException.class, () -> files.names().add("b.png"));
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkiverse.roq.frontmatter.runtime.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ReadingStats - words, read time and abstract")
+class ReadingStatsTest {
+
+    @Test
+    @DisplayName("Short content is not truncated")
+    void testShortContent() {
+        ReadingStats stats = ReadingStats.of("<p>Hello <b>World</b></p>");
+        assertEquals(2, stats.words());
+        assertEquals(1, stats.readTime());
+        assertEquals("Hello World", stats.contentAbstract());
+    }
+
+    @Test
+    @DisplayName("Long content is truncated to the abstract words")
+    void testLongContent() {
+        String html = "<p>" + "word ".repeat(401) + "</p>";
+        ReadingStats stats = ReadingStats.of(html);
+        assertEquals(401, stats.words());
+        assertEquals(3, stats.readTime());
+        assertEquals(("word ".repeat(ReadingStats.ABSTRACT_WORDS)).trim() + "...", stats.contentAbstract());
+    }
+
+    @Test
+    @DisplayName("Empty content")
+    void testEmptyContent() {
+        ReadingStats stats = ReadingStats.of("");
+        assertEquals(0, stats.words());
+        assertEquals(0, stats.readTime());
+        assertEquals("", stats.contentAbstract());
+    }
+}
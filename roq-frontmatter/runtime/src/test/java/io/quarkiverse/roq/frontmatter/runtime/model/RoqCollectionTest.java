@@ -0,0 +1,133 @@
+package io.quarkiverse.roq.frontmatter.runtime.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.roq.frontmatter.runtime.config.ConfiguredCollection;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@DisplayName("RoqCollection - navigation and indexes")
+class RoqCollectionTest {
+
+    private static final RootUrl ROOT = new RootUrl("https://example.com", "/");
+    private static final ConfiguredCollection POSTS = new ConfiguredCollection(
+            "posts", false, false, false, null, "/posts/", Optional.empty());
+    private static final ZonedDateTime START = ZonedDateTime.parse("2020-01-01T00:00:00Z");
+
+    private static DocumentPage post(int i) {
+        return post(i, new JsonObject());
+    }
+
+    private static DocumentPage post(int i, JsonObject data) {
+        return new DocumentPage("posts", new RoqUrl(ROOT, "posts/post-" + i + "/"),
+                new PageSource(null, false, START.plusMinutes(i).toString(), null, false),
+                data.put("title", "Post " + i), false);
+    }
+
+    private static RoqCollection collection(int size) {
+        List<DocumentPage> docs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            docs.add(post(i));
+        }
+        return new RoqCollection(POSTS, docs);
+    }
+
+    @Test
+    @DisplayName("Navigation follows the date order (newest first)")
+    void testNavigation() {
+        RoqCollection posts = collection(3);
+        DocumentPage newest = posts.get(0);
+        assertEquals("posts/post-2/", newest.url().resourcePath());
+        assertNull(posts.previousPage(newest));
+        assertSame(posts.get(1), posts.nextPage(newest));
+        assertSame(posts.get(0), posts.prevPage(posts.get(1)));
+        assertNull(posts.nextPage(posts.get(2)));
+    }
+
+    @Test
+    @DisplayName("Navigation works with an equal page instance which is not part of the collection")
+    void testNavigationWithEqualPage() {
+        RoqCollection posts = collection(3);
+        DocumentPage copy = post(1);
+        assertNotSame(posts.get(1), copy);
+        assertSame(posts.get(0), posts.previousPage(copy));
+        assertSame(posts.get(2), posts.nextPage(copy));
+    }
+
+    @Test
+    @DisplayName("Unknown pages have no previous or next page")
+    void testUnknownPage() {
+        RoqCollection posts = collection(3);
+        assertNull(posts.nextPage(post(42)));
+        assertNull(posts.previousPage(post(42)));
+        assertNull(posts.nextPage(null));
+    }
+
+    @Test
+    @DisplayName("Navigation matches indexOf for every document, with held instances and equal copies")
+    void testNavigationIndex() {
+        RoqCollection posts = collection(1_000);
+        for (int i = 0; i < posts.size(); i++) {
+            DocumentPage page = posts.get(i);
+            DocumentPage copy = new DocumentPage(page.collectionId(), page.url(), page.source(), page.data(),
+                    page.hidden());
+            assertEquals(i, posts.indexOf(copy));
+            assertSame(i == 0 ? null : posts.get(i - 1), posts.previousPage(page));
+            assertSame(i == posts.size() - 1 ? null : posts.get(i + 1), posts.nextPage(page));
+            assertSame(posts.previousPage(page), posts.previousPage(copy));
+            assertSame(posts.nextPage(page), posts.nextPage(copy));
+        }
+    }
+
+    @Test
+    @DisplayName("A page with the url of a document but different data is not part of the collection")
+    void testSameUrlDifferentPage() {
+        RoqCollection posts = collection(3);
+        DocumentPage page = posts.get(1);
+        DocumentPage other = new DocumentPage(page.collectionId(), page.url(), page.source(),
+                new JsonObject().put("title", "Other"), page.hidden());
+        assertNull(posts.previousPage(other));
+        assertNull(posts.nextPage(other));
+    }
+
+    @Test
+    @DisplayName("by and group return copies, index is computed once and immutable")
+    void testIndexes() {
+        RoqCollection posts = new RoqCollection(POSTS, List.of(
+                post(0, new JsonObject().put("author", "ada").put("tags", new JsonArray().add("java").add("java"))),
+                post(1, new JsonObject().put("author", "bob").put("tags", new JsonArray().add("java").add("web"))),
+                post(2, new JsonObject().put("author", "ada"))));
+
+        assertEquals(List.of("ada", "bob", "ada"), posts.by("author"));
+        posts.by("author").clear();
+        assertEquals(List.of("ada", "bob", "ada"), posts.by("author"));
+
+        Map<Object, List<Page>> byAuthor = posts.group("author");
+        assertEquals(List.of("ada", "bob"), List.copyOf(byAuthor.keySet()));
+        assertEquals(List.of(posts.get(0), posts.get(2)), byAuthor.get("ada"));
+        byAuthor.get("ada").clear();
+        byAuthor.remove("bob");
+        assertEquals(List.of(posts.get(0), posts.get(2)), posts.group("author").get("ada"));
+        assertEquals(List.of(posts.get(1)), posts.group("author").get("bob"));
+
+        RoqCollection empty = new RoqCollection(POSTS, List.of());
+        assertEquals(List.of(), empty.by("author", null));
+        assertEquals(Map.of(), empty.group("author", null));
+
+        Map<Object, List<DocumentPage>> byTag = posts.index("tags");
+        assertEquals(List.of(posts.get(1), posts.get(2)), byTag.get("java"));
+        assertEquals(List.of(posts.get(1)), byTag.get("web"));
+        assertSame(byTag, posts.index("tags"));
+        assertEquals(List.of(posts.get(0), posts.get(2)), posts.index("author").get("ada"));
+        assertThrows(UnsupportedOperationException.class, () -> byTag.remove("web"));
+    }
+}
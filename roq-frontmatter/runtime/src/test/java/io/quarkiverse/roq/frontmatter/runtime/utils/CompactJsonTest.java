@@ -0,0 +1,103 @@
+package io.quarkiverse.roq.frontmatter.runtime.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@DisplayName("CompactJson - deduplicated page data")
+class CompactJsonTest {
+
+    @Test
+    @DisplayName("Compact data is equal to the original data")
+    void testEquals() {
+        JsonObject data = pageData(1);
+        JsonObject compact = CompactJson.compact(data);
+        assertEquals(data, compact);
+        assertNotSame(data, compact);
+        assertNull(CompactJson.compact(null));
+    }
+
+    @Test
+    @DisplayName("Compact data is still mutable")
+    void testMutable() {
+        JsonObject compact = CompactJson.compact(pageData(1));
+        compact.put("foo", "bar");
+        compact.getJsonArray("tags").add("new");
+        assertEquals("bar", compact.getString("foo"));
+        assertEquals(4, compact.getJsonArray("tags").size());
+    }
+
+    @Test
+    @DisplayName("Short values are shared between pages, long ones are kept")
+    void testShared() {
+        JsonObject a = CompactJson.compact(pageData(1));
+        JsonObject b = CompactJson.compact(pageData(2));
+        assertSame(a.getString("layout"), b.getString("layout"));
+        assertSame(a.getJsonArray("tags").getString(0), b.getJsonArray("tags").getString(0));
+        assertSame(a.getJsonObject("author").getString("name"), b.getJsonObject("author").getString("name"));
+        assertNotSame(a.getString("description"), b.getString("description"));
+    }
+
+    @Test
+    @DisplayName("Synthetic site strings per page")
+    void testFootprint() {
+        int pages = 10_000;
+        List<JsonObject> original = new ArrayList<>(pages);
+        List<JsonObject> compact = new ArrayList<>(pages);
+        for (int i = 0; i < pages; i++) {
+            // Decoded separately like the recorded page data
+            original.add(new JsonObject(pageData(i).encode()));
+            compact.add(CompactJson.compact(new JsonObject(pageData(i).encode())));
+        }
+        double before = (double) countStrings(original) / pages;
+        double after = (double) countStrings(compact) / pages;
+        // Only the title and description are unique to each page
+        assertTrue(after < 2.1, "strings per page after: " + after);
+        assertTrue(after * 2 < before, "strings per page before: " + before + ", after: " + after);
+    }
+
+    private static JsonObject pageData(int i) {
+        return new JsonObject()
+                .put("title", "Post " + i)
+                .put("layout", "post")
+                .put("date", "2024-08-" + (10 + i % 20))
+                .put("description", "A long description which is not shared between the posts, " + "x".repeat(40) + i)
+                .put("tags", new JsonArray().add("java").add("quarkus").add("roq"))
+                .put("author", new JsonObject().put("name", "ia3andy").put("avatar", "ia3andy.png"))
+                .put("draft", false);
+    }
+
+    private static int countStrings(List<JsonObject> pages) {
+        Set<Object> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (JsonObject page : pages) {
+            collectStrings(page.getMap(), strings);
+        }
+        return strings.size();
+    }
+
+    private static void collectStrings(Object value, Set<Object> strings) {
+        if (value instanceof String) {
+            strings.add(value);
+        } else if (value instanceof JsonObject o) {
+            collectStrings(o.getMap(), strings);
+        } else if (value instanceof JsonArray a) {
+            a.getList().forEach(v -> collectStrings(v, strings));
+        } else if (value instanceof Map<?, ?> m) {
+            m.forEach((k, v) -> {
+                collectStrings(k, strings);
+                collectStrings(v, strings);
+            });
+        }
+    }
+}
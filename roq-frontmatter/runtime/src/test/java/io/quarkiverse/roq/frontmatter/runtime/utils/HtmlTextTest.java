@@ -0,0 +1,144 @@
+package io.quarkiverse.roq.frontmatter.runtime.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pure unit tests (no Quarkus runtime).
+ * <p>
+ * Features tested: HtmlText single pass extraction gives the same results as the regex based implementation
+ * it replaces, and abstracts don't process the content after the limit.
+ */
+@DisplayName("Roq FrontMatter - Html text extraction")
+public class HtmlTextTest {
+
+    private static final Pattern COUNT_WORDS = Pattern.compile("\\b\\w+\\b");
+    private static final Pattern STRIP_HTML_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern BR_PATTERN = Pattern.compile("(?i)<br\\s*/?>");
+    private static final Pattern BLOCK_CLOSE_PATTERN = Pattern
+            .compile("(?i)</(p|h[1-6]|div|blockquote|ul|ol|table)\\s*>");
+    private static final Pattern LI_CLOSE_PATTERN = Pattern.compile("(?i)</li\\s*>");
+    private static final Pattern SPACES_PATTERN = Pattern.compile("[ \\t]+");
+    private static final Pattern TRAILING_SPACES_PATTERN = Pattern.compile(" *\\n");
+    private static final Pattern MULTI_NEWLINES_PATTERN = Pattern.compile("\\n{3,}");
+
+    private static final String[] TOKENS = { "<p>", "</p>", "</P >", "<br>", "<BR/>", "<br />", "</li>", "</div>",
+            "</h2>", "</pre>", "<!-- c -->", "<a href=\"x\">", "</a>", "&amp;", "&quot;", "&#39;", "&nbsp;", "&", "quot;",
+            "amp;", "nbsp;", ">", " ", "  ", "\t", "\n", "\n\n\n", "\r", "word", "a_b", "x1", "é", "don't", ".", "-" };
+
+    @Test
+    @DisplayName("strip, countWords, wordLimit and textAbstract match the regex implementation")
+    public void testSameAsRegex() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String html = randomHtml(random, true);
+            String text = referenceStrip(html);
+            assertEquals(text, HtmlText.strip(html), html);
+            assertEquals(COUNT_WORDS.matcher(text).results().count(), HtmlText.countWords(text), html);
+            for (int limit = 0; limit < 6; limit++) {
+                String expected = referenceWordLimit(text, limit);
+                assertEquals(expected, HtmlText.wordLimit(text, limit), html);
+                assertEquals(expected, HtmlText.textAbstract(html, limit), html);
+                HtmlText.Summary summary = HtmlText.summarize(html, limit);
+                assertEquals(expected, summary.textAbstract(), html);
+                assertEquals(COUNT_WORDS.matcher(text).results().count(), summary.words(), html);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("toPlainText matches the regex implementation")
+    public void testPlainTextSameAsRegex() {
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            // A '<' inside a tag is ambiguous between the two implementations, it is not generated
+            String html = randomHtml(random, false);
+            assertEquals(referencePlainText(html), HtmlText.toPlainText(html), html);
+        }
+    }
+
+    @Test
+    @DisplayName("toPlainText keeps the paragraphs")
+    public void testPlainText() {
+        assertEquals("Hello\n\nWorld & \"friends\"\n\na\nb",
+                HtmlText.toPlainText("<p>Hello</p><p>World &amp; &quot;friends&quot;</p><ul><li>a</li><li>b</li></ul>"));
+    }
+
+    @Test
+    @DisplayName("Unclosed tags are kept as text")
+    public void testUnclosedTag() {
+        assertEquals("a < b", HtmlText.strip("<i>a</i> < b"));
+    }
+
+    @Test
+    @DisplayName("textAbstract of a large content only depends on the content before the limit")
+    public void testLargeAbstract() {
+        StringBuilder html = new StringBuilder();
+        while (html.length() < 200_000) {
+            html.append("<p>Lorem <b>ipsum</b> dolor sit amet, consectetur adipiscing elit.</p>\n");
+        }
+        String expected = referenceWordLimit(referenceStrip(html.toString()), 75);
+        assertEquals(expected, HtmlText.textAbstract(html.toString(), 75));
+        // Content after the limit, ending with an unclosed tag
+        html.append("<b>bold</b> words <");
+        String text = referenceStrip(html.toString());
+        assertEquals(expected, HtmlText.textAbstract(html.toString(), 75));
+        HtmlText.Summary summary = HtmlText.summarize(html.toString(), 75);
+        assertEquals(expected, summary.textAbstract());
+        assertEquals(COUNT_WORDS.matcher(text).results().count(), summary.words());
+    }
+
+    private static String randomHtml(Random random, boolean withLowerThan) {
+        StringBuilder sb = new StringBuilder();
+        int tokens = random.nextInt(30);
+        for (int i = 0; i < tokens; i++) {
+            if (withLowerThan && random.nextInt(20) == 0) {
+                sb.append('<');
+            } else {
+                sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String referenceStrip(String html) {
+        return STRIP_HTML_PATTERN.matcher(html).replaceAll("");
+    }
+
+    private static String referencePlainText(String html) {
+        String text = html;
+        text = BR_PATTERN.matcher(text).replaceAll("\n");
+        text = BLOCK_CLOSE_PATTERN.matcher(text).replaceAll("\n\n");
+        text = LI_CLOSE_PATTERN.matcher(text).replaceAll("\n");
+        text = STRIP_HTML_PATTERN.matcher(text).replaceAll("");
+        text = text.replace("&amp;", "&").replace("&quot;", "\"")
+                .replace("&#39;", "'").replace("&nbsp;", " ");
+        text = SPACES_PATTERN.matcher(text).replaceAll(" ");
+        text = TRAILING_SPACES_PATTERN.matcher(text).replaceAll("\n");
+        text = MULTI_NEWLINES_PATTERN.matcher(text).replaceAll("\n\n");
+        return text.strip();
+    }
+
+    private static String referenceWordLimit(String text, int limit) {
+        Matcher m = COUNT_WORDS.matcher(text);
+        int count = 0;
+        int end = -1;
+        while (m.find()) {
+            count++;
+            if (count == limit) {
+                end = m.end();
+                break;
+            }
+        }
+        if (end == -1 || end >= text.length()) {
+            return text;
+        }
+        return text.substring(0, end).trim() + "...";
+    }
+}
@@ -107,7 +107,7 @@ export class QwcRoqGenerator extends LitElement {
 
     _generate() {
         this.jsonRpc.generate().then(jsonRpcResponse => {
-            alert("Roq generation succeeded in directory: " + jsonRpcResponse.result);
+            alert("Roq generation succeeded in: " + jsonRpcResponse.result);
         });
     }
 
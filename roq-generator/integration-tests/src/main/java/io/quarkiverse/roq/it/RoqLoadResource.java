@@ -0,0 +1,55 @@
+package io.quarkiverse.roq.it;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.Router;
+
+@Path("/load")
+@ApplicationScoped
+public class RoqLoadResource {
+
+    public static final int LARGE_SIZE = 4 * 1024 * 1024;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    void onStart(@Observes Router router) {
+        // The connection is closed in the middle of the response body
+        router.route("/load/broken").handler(rc -> rc.response()
+                .setChunked(true)
+                .putHeader("Content-Type", MediaType.TEXT_PLAIN)
+                .write(Buffer.buffer("a".repeat(64 * 1024)))
+                .onComplete(r -> rc.request().connection().close()));
+    }
+
+    /**
+     * @return the highest number of requests in flight seen by this request
+     */
+    @GET
+    @Path("/slow/{id}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String slow(@PathParam("id") String id) throws InterruptedException {
+        final int start = inFlight.incrementAndGet();
+        try {
+            Thread.sleep(100);
+            return String.valueOf(Math.max(start, inFlight.get()));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @GET
+    @Path("/large")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String large() {
+        return "a".repeat(LARGE_SIZE);
+    }
+}
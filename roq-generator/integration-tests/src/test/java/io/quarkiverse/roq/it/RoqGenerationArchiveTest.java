@@ -0,0 +1,59 @@
+package io.quarkiverse.roq.it;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationArchiveTest.ArchiveConfig.class)
+public class RoqGenerationArchiveTest {
+
+    private static final Path ARCHIVE = Path.of("target/roq-archive.zip");
+
+    @Test
+    public void testGenerate(QuarkusMainLauncher launcher) throws Exception {
+        LaunchResult result = launcher.launch();
+        assertEquals(0, result.exitCode());
+        assertTrue(Files.isRegularFile(ARCHIVE));
+        assertFalse(Files.exists(Path.of("target/roq-archive")));
+        final byte[] first = Files.readAllBytes(ARCHIVE);
+        try (ZipFile zip = new ZipFile(ARCHIVE.toFile())) {
+            final List<String> names = zip.stream().map(ZipEntry::getName).toList();
+            assertEquals(names.stream().sorted().toList(), names);
+            final ZipEntry index = zip.getEntry("index.html");
+            assertNotNull(index);
+            assertTrue(new String(zip.getInputStream(index).readAllBytes()).contains("Hello"));
+            assertNotNull(zip.getEntry("static/logo.svg"));
+            assertEquals(1, zip.stream().map(ZipEntry::getTime).distinct().count());
+        }
+
+        // The archive is reproducible
+        result = launcher.launch();
+        assertEquals(0, result.exitCode());
+        assertArrayEquals(first, Files.readAllBytes(ARCHIVE));
+    }
+
+    public static class ArchiveConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "archive";
+        }
+    }
+
+}
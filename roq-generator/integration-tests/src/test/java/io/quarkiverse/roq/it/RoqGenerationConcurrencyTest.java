@@ -0,0 +1,50 @@
+package io.quarkiverse.roq.it;
+
+import static java.nio.file.Files.exists;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.Launch;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationConcurrencyTest.ConcurrencyConfig.class)
+public class RoqGenerationConcurrencyTest {
+
+    private static final Path OUTPUT_DIR = Path.of("target/roq-concurrency");
+
+    @Test
+    @Launch(value = {}, exitCode = 0)
+    public void testGenerate() throws IOException {
+        for (int i = 1; i <= 8; i++) {
+            final Path file = OUTPUT_DIR.resolve("load/slow/" + i);
+            assertTrue(exists(file));
+            // No more requests in flight than the configured concurrency
+            final int inFlight = Integer.parseInt(Files.readString(file));
+            assertTrue(inFlight >= 1 && inFlight <= 2, "in flight: " + inFlight);
+        }
+        // Streamed to disk and complete
+        assertEquals(RoqLoadResource.LARGE_SIZE, Files.size(OUTPUT_DIR.resolve("load/large")));
+        try (Stream<Path> files = Files.walk(OUTPUT_DIR)) {
+            assertFalse(files.anyMatch(f -> f.getFileName().toString().endsWith(".roq-tmp")));
+        }
+    }
+
+    public static class ConcurrencyConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "concurrency";
+        }
+    }
+
+}
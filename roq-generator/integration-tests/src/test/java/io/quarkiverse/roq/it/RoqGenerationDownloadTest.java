@@ -0,0 +1,44 @@
+package io.quarkiverse.roq.it;
+
+import static java.nio.file.Files.exists;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationDownloadTest.DownloadConfig.class)
+public class RoqGenerationDownloadTest {
+
+    private static final Path OUTPUT_DIR = Path.of("target/roq-download");
+
+    @Test
+    public void testGenerate(QuarkusMainLauncher launcher) {
+        LaunchResult result = launcher.launch();
+        assertEquals(1, result.exitCode());
+        final String output = result.getOutput() + result.getErrorOutput();
+        assertTrue(output.contains("Roq generation failed for 1 path(s):"));
+        assertTrue(output.contains("/load/broken"));
+        // The response was cut, neither the temporary file nor a partial target is left
+        assertFalse(exists(OUTPUT_DIR.resolve("load/broken.roq-tmp")));
+        assertFalse(exists(OUTPUT_DIR.resolve("load/broken")));
+        assertTrue(exists(OUTPUT_DIR.resolve("index.html")));
+    }
+
+    public static class DownloadConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "download";
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.quarkiverse.roq.it;
+
+import static java.nio.file.Files.exists;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationFailuresTest.FailuresConfig.class)
+public class RoqGenerationFailuresTest {
+
+    private static final Path OUTPUT_DIR = Path.of("target/roq-failures");
+
+    @Test
+    public void testGenerate(QuarkusMainLauncher launcher) {
+        LaunchResult result = launcher.launch();
+        assertEquals(1, result.exitCode());
+        final String output = result.getOutput() + result.getErrorOutput();
+        assertTrue(output.contains("Roq generation failed for 1 path(s):"));
+        // Client errors are not retried
+        assertTrue(output.contains("/missing-page [404] after 1 attempt(s)"));
+        // The other paths are still generated
+        assertTrue(exists(OUTPUT_DIR.resolve("index.html")));
+        assertTrue(exists(OUTPUT_DIR.resolve("static/logo.svg")));
+        assertFalse(exists(OUTPUT_DIR.resolve("missing-page")));
+    }
+
+    public static class FailuresConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "failures";
+        }
+    }
+
+}
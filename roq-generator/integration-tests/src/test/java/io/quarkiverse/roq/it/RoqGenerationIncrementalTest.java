@@ -0,0 +1,62 @@
+package io.quarkiverse.roq.it;
+
+import static java.nio.file.Files.exists;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.roq.generator.runtime.RoqGeneratorManifest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+import io.vertx.core.json.JsonObject;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationIncrementalTest.IncrementalConfig.class)
+public class RoqGenerationIncrementalTest {
+
+    private static final Path OUTPUT_DIR = Path.of("target/roq-incremental");
+
+    @Test
+    public void testGenerate(QuarkusMainLauncher launcher) throws Exception {
+        LaunchResult result = launcher.launch();
+        assertEquals(0, result.exitCode());
+        final Path index = OUTPUT_DIR.resolve("index.html");
+        final Path manifest = OUTPUT_DIR.resolve(RoqGeneratorManifest.FILE_NAME);
+        assertTrue(exists(index));
+        assertTrue(exists(manifest));
+
+        // Simulate a file which was generated previously and is not selected anymore
+        final Path removed = OUTPUT_DIR.resolve("old/removed.txt");
+        Files.createDirectories(removed.getParent());
+        Files.writeString(removed, "removed");
+        final JsonObject json = new JsonObject(Files.readString(manifest));
+        json.getJsonObject("files").put("old/removed.txt", new JsonObject().put("hash", "foo").put("size", 7));
+        Files.writeString(manifest, json.encode());
+        final FileTime indexTime = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(index, indexTime);
+
+        result = launcher.launch();
+        assertEquals(0, result.exitCode());
+        assertEquals(indexTime, Files.getLastModifiedTime(index));
+        assertFalse(exists(removed));
+        assertFalse(exists(removed.getParent()));
+        assertTrue(exists(OUTPUT_DIR.resolve("static/logo.svg")));
+    }
+
+    public static class IncrementalConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "incremental";
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.quarkiverse.roq.it;
+
+import static java.nio.file.Files.exists;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.roq.generator.runtime.RoqGeneratorManifest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+import io.vertx.core.json.JsonObject;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationPrecompressTest.PrecompressConfig.class)
+public class RoqGenerationPrecompressTest {
+
+    private static final Path OUTPUT_DIR = Path.of("target/roq-precompress");
+
+    @Test
+    public void testGenerate(QuarkusMainLauncher launcher) throws IOException {
+        assertEquals(0, launcher.launch().exitCode());
+        final Path logo = OUTPUT_DIR.resolve("static/logo.svg");
+        final Path compressed = OUTPUT_DIR.resolve("static/logo.svg.gz");
+        assertTrue(exists(logo));
+        assertTrue(exists(compressed));
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(compressed))) {
+            assertArrayEquals(Files.readAllBytes(logo), in.readAllBytes());
+        }
+        // Too small
+        assertFalse(exists(OUTPUT_DIR.resolve("index.html.gz")));
+
+        // The content hash is unchanged, the sibling is kept even if it is older than the file
+        final FileTime time = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(compressed, time);
+        assertEquals(0, launcher.launch().exitCode());
+        assertEquals(time, Files.getLastModifiedTime(compressed));
+
+        // The sibling was made from another content, it is compressed again
+        final Path manifest = OUTPUT_DIR.resolve(RoqGeneratorManifest.FILE_NAME);
+        final JsonObject json = new JsonObject(Files.readString(manifest));
+        json.getJsonObject("compressed").put("static/logo.svg", "foo");
+        Files.writeString(manifest, json.encode());
+        assertEquals(0, launcher.launch().exitCode());
+        assertNotEquals(time, Files.getLastModifiedTime(compressed));
+    }
+
+    public static class PrecompressConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "precompress";
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.quarkiverse.roq.it;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.Launch;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationReportTest.ReportConfig.class)
+public class RoqGenerationReportTest {
+
+    @Test
+    @Launch
+    public void testReport() throws IOException {
+        final JsonObject report = new JsonObject(Files.readString(Path.of("target/roq-report.json")));
+        final JsonArray paths = report.getJsonArray("paths");
+        assertTrue(paths.stream().map(JsonObject.class::cast)
+                .anyMatch(p -> p.getString("outputPath").equals("index.html") && p.getLong("bytes") > 0));
+        assertTrue(paths.stream().map(JsonObject.class::cast)
+                .anyMatch(p -> p.getString("outputPath").equals("static/logo.svg") && !p.getString("type").equals("HTTP")));
+    }
+
+    public static class ReportConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "report";
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.quarkiverse.roq.it;
+
+import static java.nio.file.Files.exists;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.roq.generator.runtime.RoqGeneratorManifest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit.main.LaunchResult;
+import io.quarkus.test.junit.main.QuarkusMainLauncher;
+import io.quarkus.test.junit.main.QuarkusMainTest;
+import io.vertx.core.json.JsonObject;
+
+@QuarkusMainTest
+@TestProfile(RoqGenerationShardTest.ShardConfig.class)
+public class RoqGenerationShardTest {
+
+    private static final Path OUTPUT_DIR = Path.of("target/roq-shard");
+
+    @Test
+    public void testGenerate(QuarkusMainLauncher launcher) throws Exception {
+        LaunchResult result = launcher.launch();
+        assertEquals(0, result.exitCode());
+        final Path shardManifest = OUTPUT_DIR.resolve(RoqGeneratorManifest.shardFileName(1));
+        assertTrue(exists(shardManifest));
+        assertFalse(exists(OUTPUT_DIR.resolve(RoqGeneratorManifest.FILE_NAME)));
+
+        final Set<String> shardFiles = new JsonObject(Files.readString(shardManifest)).getJsonObject("files").fieldNames();
+        assertFalse(shardFiles.isEmpty());
+        assertEquals(shardFiles, generatedFiles());
+
+        RoqGeneratorManifest.mergeShards(OUTPUT_DIR);
+        assertFalse(exists(shardManifest));
+        final Path manifest = OUTPUT_DIR.resolve(RoqGeneratorManifest.FILE_NAME);
+        assertTrue(exists(manifest));
+        assertEquals(shardFiles, new JsonObject(Files.readString(manifest)).getJsonObject("files").fieldNames());
+    }
+
+    private static Set<String> generatedFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(OUTPUT_DIR)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(f -> !f.getFileName().toString().startsWith(".roq-manifest"))
+                    .map(f -> OUTPUT_DIR.relativize(f).toString().replace('\\', '/'))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    public static class ShardConfig implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "shard";
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.quarkiverse.roq.generator.runtime;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.smallrye.config.WithDefault;
+
+public interface PrecompressConfig {
+
+    /**
+     * Write a pre-compressed `.gz` sibling next to compressible generated files,
+     * to be served directly by the static file server (e.g. nginx `gzip_static`).
+     * With incremental generation, a file is only compressed again when its content hash changes.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Files smaller than this size (in bytes) are not compressed
+     */
+    @WithDefault("1024")
+    int minSize();
+
+    /**
+     * The media types to compress.
+     * By default, the HTTP compression media types are used (`quarkus.http.compress-media-types`).
+     */
+    Optional<List<String>> mediaTypes();
+}
@@ -0,0 +1,25 @@
+package io.quarkiverse.roq.generator.runtime;
+
+import io.smallrye.config.WithDefault;
+
+public interface ReportConfig {
+
+    /**
+     * Write a JSON report with the timings, size and retries of each generated path,
+     * and log a summary with the percentiles and slowest paths
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The report file, relative to the target directory
+     */
+    @WithDefault("roq-report.json")
+    String path();
+
+    /**
+     * How many of the slowest paths are logged
+     */
+    @WithDefault("10")
+    int top();
+}
@@ -0,0 +1,118 @@
+package io.quarkiverse.roq.generator.runtime;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+import io.quarkiverse.roq.generator.runtime.RoqGeneratorConfig.Archive;
+
+/**
+ * Writes the generated files into a single archive, entries are written in the order they are added, with a fixed
+ * timestamp so that the archive is reproducible.
+ * <p>
+ * The archive is written to a temporary file which replaces the target once complete.
+ */
+final class RoqArchive implements Closeable {
+
+    /**
+     * Used when SOURCE_DATE_EPOCH is not set (the minimum date supported by zip)
+     */
+    private static final Instant DEFAULT_TIME = Instant.parse("1980-01-01T00:00:00Z");
+
+    private final Path file;
+    private final Path tempFile;
+    private final Archive format;
+    private final Instant time;
+    private final ArchiveOutputStream<?> out;
+    private boolean completed;
+
+    RoqArchive(Path file, Archive format) throws IOException {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".roq-tmp");
+        this.format = format;
+        this.time = time();
+        Files.createDirectories(file.getParent());
+        final OutputStream os = new BufferedOutputStream(Files.newOutputStream(tempFile), 64 * 1024);
+        if (format == Archive.ZIP) {
+            this.out = new ZipArchiveOutputStream(os);
+        } else {
+            // The gzip header modification time is left to 0
+            final TarArchiveOutputStream tar = new TarArchiveOutputStream(new GzipCompressorOutputStream(os));
+            tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            tar.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+            this.out = tar;
+        }
+    }
+
+    void add(String name, Path content) throws IOException {
+        putEntry(name, Files.size(content));
+        Files.copy(content, out);
+        out.closeArchiveEntry();
+    }
+
+    void add(String name, byte[] content) throws IOException {
+        putEntry(name, content.length);
+        out.write(content);
+        out.closeArchiveEntry();
+    }
+
+    /**
+     * Finish the archive and move it to its final location
+     */
+    void complete() throws IOException {
+        out.close();
+        completed = true;
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!completed) {
+            try {
+                out.close();
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void putEntry(String name, long size) throws IOException {
+        if (format == Archive.ZIP) {
+            final ZipArchiveEntry entry = new ZipArchiveEntry(name);
+            // Zip uses local date-times, this keeps the same date-time whatever the time-zone
+            entry.setTime(LocalDateTime.ofInstant(time, ZoneOffset.UTC).atZone(ZoneId.systemDefault()).toInstant()
+                    .toEpochMilli());
+            ((ArchiveOutputStream<ZipArchiveEntry>) out).putArchiveEntry(entry);
+        } else {
+            final TarArchiveEntry entry = new TarArchiveEntry(name);
+            entry.setSize(size);
+            entry.setModTime(time.toEpochMilli());
+            entry.setMode(0100644);
+            ((ArchiveOutputStream<TarArchiveEntry>) out).putArchiveEntry(entry);
+        }
+    }
+
+    private static Instant time() {
+        final String epoch = System.getenv("SOURCE_DATE_EPOCH");
+        if (epoch != null && !epoch.isBlank()) {
+            return Instant.ofEpochSecond(Long.parseLong(epoch.trim()));
+        }
+        return DEFAULT_TIME;
+    }
+}
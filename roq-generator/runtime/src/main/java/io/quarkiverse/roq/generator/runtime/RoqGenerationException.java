@@ -0,0 +1,33 @@
+package io.quarkiverse.roq.generator.runtime;
+
+import java.util.List;
+
+/**
+ * Thrown at the end of the generation when some paths couldn't be generated
+ * (see {@link RoqGeneratorConfig#collectFailures()}).
+ */
+public class RoqGenerationException extends RuntimeException {
+
+    private final List<RoqGeneratorReport.Failure> failures;
+
+    public RoqGenerationException(List<RoqGeneratorReport.Failure> failures) {
+        super(message(failures));
+        this.failures = failures;
+    }
+
+    public List<RoqGeneratorReport.Failure> failures() {
+        return failures;
+    }
+
+    private static String message(List<RoqGeneratorReport.Failure> failures) {
+        final StringBuilder sb = new StringBuilder("Roq generation failed for %d path(s):".formatted(failures.size()));
+        for (RoqGeneratorReport.Failure f : failures) {
+            sb.append("\n  - ").append(f.path());
+            if (f.statusCode() != null) {
+                sb.append(" [").append(f.statusCode()).append(']');
+            }
+            sb.append(" after ").append(f.attempts()).append(" attempt(s): ").append(f.error());
+        }
+        return sb.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkiverse.roq.generator.runtime;
 
 import static io.quarkiverse.roq.generator.runtime.RoqSelection.prepare;
+import static io.quarkiverse.roq.generator.runtime.RoqSelection.shard;
 import static io.quarkiverse.roq.generator.runtime.StaticFile.FetchType.CLASSPATH;
 import static io.quarkiverse.roq.generator.runtime.StaticFile.FetchType.FILE;
 import static io.quarkiverse.tools.stringpaths.StringPaths.join;
@@ -9,14 +10,20 @@ import static io.quarkiverse.tools.stringpaths.StringPaths.toUnixPath;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
@@ -25,29 +32,39 @@ import jakarta.inject.Inject;
 
 import org.jboss.logging.Logger;
 
+import io.quarkiverse.roq.spi.RoqPathRenderer;
 import io.quarkus.arc.All;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.Quarkus;
 import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.TimeoutException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.FileSystemException;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.http.HttpResponseExpectation;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.ext.web.codec.BodyCodec;
 
 @ApplicationScoped
 public class RoqGenerator implements Handler<RoutingContext> {
 
     private static final Logger LOGGER = Logger.getLogger(RoqGenerator.class);
+    private static final String TEMP_EXTENSION = ".roq-tmp";
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(5);
     private final Instance<Vertx> vertx;
     private final RoqGeneratorConfig config;
 
@@ -57,19 +74,31 @@ public class RoqGenerator implements Handler<RoutingContext> {
     private final Map<String, StaticFile> staticFiles;
     private WebClient client;
     private final List<SelectedPath> selectedPaths;
+    private final List<RoqPathRenderer> renderers;
+    private final RoqPrecompressor precompressor;
 
     @Inject
     public RoqGenerator(final Instance<Vertx> vertx,
             final RoqGeneratorConfig config,
             VertxHttpConfig httpConfiguration,
             VertxHttpBuildTimeConfig httpBuildTimeConfig,
-            @All final List<RoqSelection> selection) {
+            @All final List<RoqSelection> selection,
+            @All final List<RoqPathRenderer> renderers) {
         this.vertx = vertx;
         this.config = config;
         this.httpConfiguration = httpConfiguration;
         this.httpBuildTimeConfig = httpBuildTimeConfig;
         this.staticFiles = ConfiguredPathsProvider.staticFiles();
-        selectedPaths = prepare(config, selection);
+        selectedPaths = shard(prepare(config, selection), config.shardIndex(), config.shardCount());
+        this.renderers = config.inProcess() ? renderers : List.of();
+        this.precompressor = config.precompress().enabled()
+                ? new RoqPrecompressor(Set.copyOf(config.precompress().mediaTypes()
+                        .orElse(httpBuildTimeConfig.compressMediaTypes().orElse(List.of()))),
+                        config.precompress().minSize())
+                : null;
+        if (archived() && (config.incremental() || sharded() || config.precompress().enabled())) {
+            LOGGER.warn("Roq incremental generation, sharding and pre-compression are ignored with archive output");
+        }
     }
 
     void onStart(@Observes Router router) {
@@ -77,12 +106,14 @@ public class RoqGenerator implements Handler<RoutingContext> {
             routingContext.response().end("pong");
         });
         if (config.batch()) {
-            generate().subscribe().with(t -> {
-                LOGGER.info("Roq generation succeeded in directory: " + outputDir());
+            (config.mergeShards() ? mergeShards() : generate()).subscribe().with(t -> {
+                LOGGER.info("Roq generation succeeded in: " + toUnixPath(t.toString()));
                 Quarkus.asyncExit(0);
             }, throwable -> {
                 if (throwable instanceof ConnectException) {
                     LOGGER.error("Roq generation failed");
+                } else if (throwable instanceof RoqGenerationException) {
+                    LOGGER.error(throwable.getMessage());
                 } else {
                     LOGGER.error("Roq generation failed", throwable);
                 }
@@ -92,13 +123,17 @@ public class RoqGenerator implements Handler<RoutingContext> {
         }
     }
 
+    public String archivePath() {
+        return toUnixPath(join(ConfiguredPathsProvider.targetDir(), config.outputDir() + config.archive().extension()));
+    }
+
     public String outputDir() {
         return toUnixPath(join(ConfiguredPathsProvider.targetDir(), config.outputDir()));
     }
 
     private WebClient client() {
         if (client == null) {
-            client = WebClient.create(vertx.get());
+            client = WebClient.create(vertx.get(), new WebClientOptions().setMaxPoolSize(config.concurrency()));
         }
         return client;
     }
@@ -107,7 +142,7 @@ public class RoqGenerator implements Handler<RoutingContext> {
     public void handle(RoutingContext event) {
         generate().subscribe().with(t -> {
             event.response().setStatusCode(200);
-            event.response().end("Exported in: " + outputDir());
+            event.response().end("Exported in: " + toUnixPath(t.toString()));
         }, event::fail);
     }
 
@@ -117,28 +152,448 @@ public class RoqGenerator implements Handler<RoutingContext> {
 
     public Uni<Path> generate() {
         final FileSystem fs = vertx.get().fileSystem();
-        final List<Uni<Void>> all = new ArrayList<>();
         final Path outputDir = Path.of(outputDir()).toAbsolutePath();
-        for (SelectedPath path : this.selectedPaths) {
-            all.add(fetchContent(path.path())
-                    .onFailure()
-                    .retry().atMost(config.requestRetry())
-                    .chain(r -> {
-                        final Path targetPath = outputDir.resolve(path.outputPath());
+        final boolean needsHttp = this.selectedPaths.stream()
+                .anyMatch(p -> !staticFiles.containsKey(p.path()) && renderer(p.path()) == null);
+        final RoqGeneratorReport report = new RoqGeneratorReport();
+        if (archived()) {
+            return generateArchive(needsHttp, report)
+                    .ifNoItem().after(Duration.ofSeconds(config.timeout()))
+                    .fail();
+        }
+        return prepareOutputDir(fs, outputDir)
+                .call(() -> needsHttp ? pollRoqPing() : Uni.createFrom().voidItem())
+                // Bounded number of in-flight paths, each one is written to disk as soon as it is fetched
+                .call(manifest -> Multi.createFrom().iterable(this.selectedPaths)
+                        .onItem().transformToUni(path -> generatePath(fs, outputDir, path, manifest, report))
+                        .merge(config.concurrency())
+                        .onItem().ignoreAsUni())
+                .call(manifest -> precompress(outputDir, manifest))
+                .call(manifest -> completeOutputDir(outputDir, manifest))
+                .call(() -> writeReport(report))
+                .call(() -> checkFailures(report))
+                .map(manifest -> outputDir)
+                .ifNoItem().after(Duration.ofSeconds(config.timeout()))
+                .fail();
+    }
+
+    /**
+     * Paths are fetched concurrently by batches and written to the archive in order, which bounds the memory to one
+     * batch of contents.
+     */
+    private Uni<Path> generateArchive(boolean needsHttp, RoqGeneratorReport report) {
+        final Path archivePath = Path.of(archivePath()).toAbsolutePath();
+        return Uni.createFrom().deferred(() -> {
+            final RoqArchive archive;
+            try {
+                archive = new RoqArchive(archivePath, config.archive());
+            } catch (IOException e) {
+                return Uni.createFrom().failure(e);
+            }
+            return (needsHttp ? pollRoqPing() : Uni.createFrom().voidItem())
+                    .chain(() -> Multi.createFrom().iterable(this.selectedPaths)
+                            .group().intoLists().of(config.concurrency())
+                            .onItem().transformToUniAndConcatenate(batch -> fetchEntries(batch, report)
+                                    .chain(entries -> blocking(() -> {
+                                        for (ArchiveEntry entry : entries) {
+                                            if (entry != null) {
+                                                writeEntry(archive, entry);
+                                            }
+                                        }
+                                        return null;
+                                    })))
+                            .onItem().ignoreAsUni())
+                    .chain(() -> blocking(() -> {
+                        archive.complete();
+                        return null;
+                    }))
+                    .onTermination().call(() -> blocking(() -> {
+                        archive.close();
+                        return null;
+                    }))
+                    .call(() -> writeReport(report))
+                    .call(() -> checkFailures(report))
+                    .replaceWith(archivePath);
+        });
+    }
+
+    private Uni<List<ArchiveEntry>> fetchEntries(List<SelectedPath> batch, RoqGeneratorReport report) {
+        final List<Uni<ArchiveEntry>> entries = batch.stream().map(path -> fetchEntry(path, report)).toList();
+        return Uni.join().all(entries).andFailFast();
+    }
+
+    private Uni<ArchiveEntry> fetchEntry(SelectedPath path, RoqGeneratorReport report) {
+        final StaticFile staticFile = staticFiles.get(path.path());
+        if (staticFile != null && (staticFile.type() == FILE || staticFile.type() == CLASSPATH)) {
+            // Static files are read when written to the archive
+            return Uni.createFrom().item(() -> new ArchiveEntry(path, staticFile, null,
+                    report.track(path, RoqGeneratorReport.Source.of(staticFile.type()))));
+        }
+        final RoqPathRenderer renderer = renderer(path.path());
+        return Uni.createFrom().deferred(() -> {
+            final RoqGeneratorReport.Tracker tracker = report.track(path,
+                    renderer != null ? RoqGeneratorReport.Source.IN_PROCESS : RoqGeneratorReport.Source.HTTP);
+            final Uni<Buffer> content = renderer != null ? render(renderer, path.path())
+                    : getSend(encode(join(httpBuildTimeConfig.rootPath(), path.path()))).map(HttpResponse::bodyAsBuffer);
+            return content
+                    .plug(u -> withRetry(u, tracker))
+                    .invoke(tracker::fetched)
+                    .map(c -> new ArchiveEntry(path, null, c != null ? c : Buffer.buffer(), tracker))
+                    .onFailure(t -> config.collectFailures()).recoverWithItem(t -> {
+                        tracker.error(t);
+                        return null;
+                    });
+        });
+    }
+
+    private void writeEntry(RoqArchive archive, ArchiveEntry entry) throws IOException {
+        final String name = entry.path().outputPath();
+        final long size;
+        if (entry.content() != null) {
+            archive.add(name, entry.content().getBytes());
+            size = entry.content().length();
+        } else if (entry.staticFile().type() == FILE) {
+            final Path source = Path.of(entry.staticFile().path());
+            archive.add(name, source);
+            size = Files.size(source);
+        } else {
+            final byte[] content;
+            try (InputStream in = openStaticFile(entry.staticFile())) {
+                content = in != null ? in.readAllBytes() : new byte[0];
+            }
+            archive.add(name, content);
+            size = content.length;
+        }
+        entry.tracker().done(size, true);
+        logGenerated(entry.path(), true);
+    }
+
+    private <T> Uni<T> blocking(Callable<T> callable) {
+        return Uni.createFrom()
+                .completionStage(() -> vertx.get().executeBlocking(callable, false).toCompletionStage());
+    }
+
+    private static Uni<Void> checkFailures(RoqGeneratorReport report) {
+        if (report.failures().isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().failure(new RoqGenerationException(report.failures()));
+    }
+
+    private boolean archived() {
+        return config.archive() != RoqGeneratorConfig.Archive.NONE;
+    }
+
+    /**
+     * @param staticFile the static file to copy in the archive, or null when the content was fetched
+     */
+    private record ArchiveEntry(SelectedPath path, StaticFile staticFile, Buffer content,
+            RoqGeneratorReport.Tracker tracker) {
+    }
+
+    public Uni<Path> mergeShards() {
+        final Path outputDir = Path.of(outputDir()).toAbsolutePath();
+        return Uni.createFrom()
+                .completionStage(() -> vertx.get()
+                        .executeBlocking(() -> RoqGeneratorManifest.mergeShards(outputDir), false)
+                        .toCompletionStage())
+                .invoke(manifest -> LOGGER.infof("Roq merged %d shard files: %s", manifest.size(), manifest.summary()))
+                .replaceWith(outputDir);
+    }
+
+    private boolean sharded() {
+        return config.shardCount() > 1;
+    }
+
+    private boolean tracked() {
+        return config.incremental() || sharded();
+    }
+
+    private Uni<Void> generatePath(FileSystem fs, Path outputDir, SelectedPath path, RoqGeneratorManifest manifest,
+            RoqGeneratorReport report) {
+        final Path targetPath = outputDir.resolve(path.outputPath());
+        final StaticFile staticFile = staticFiles.get(path.path());
+        final RoqPathRenderer renderer = renderer(path.path());
+        return Uni.createFrom().deferred(() -> {
+            final RoqGeneratorReport.Tracker tracker;
+            final Uni<Boolean> written;
+            if (staticFile != null && (staticFile.type() == FILE || staticFile.type() == CLASSPATH)) {
+                tracker = report.track(path, RoqGeneratorReport.Source.of(staticFile.type()));
+                written = generateStaticFile(path, staticFile, targetPath, manifest, tracker);
+            } else if (renderer == null) {
+                tracker = report.track(path, RoqGeneratorReport.Source.HTTP);
+                written = generateFromHttp(fs, path, targetPath, manifest, tracker);
+            } else {
+                tracker = report.track(path, RoqGeneratorReport.Source.IN_PROCESS);
+                written = generateInProcess(fs, renderer, path, targetPath, manifest, tracker);
+            }
+            return written
+                    .invoke(w -> logGenerated(path, w))
+                    .replaceWithVoid()
+                    .onFailure(t -> config.collectFailures()).recoverWithItem(t -> {
+                        // Keep the previous generation of this path
+                        manifest.retain(path.outputPath());
+                        tracker.error(t);
+                        return null;
+                    });
+        });
+    }
+
+    private Uni<Boolean> generateStaticFile(SelectedPath path, StaticFile staticFile, Path targetPath,
+            RoqGeneratorManifest manifest, RoqGeneratorReport.Tracker tracker) {
+        // Static files are streamed (or linked) to the target without loading them in memory
+        return Uni.createFrom()
+                .completionStage(() -> vertx.get()
+                        .executeBlocking(() -> copyStaticFile(path, staticFile, targetPath, manifest), false)
+                        .toCompletionStage())
+                .plug(u -> withRetry(u, tracker))
+                .invoke(written -> tracker.done(sizeOf(targetPath), written));
+    }
+
+    private Uni<Boolean> generateFromHttp(FileSystem fs, SelectedPath path, Path targetPath,
+            RoqGeneratorManifest manifest, RoqGeneratorReport.Tracker tracker) {
+        // Responses are streamed to a temporary file which replaces the target once complete
+        final Path tempPath = targetPath.resolveSibling(targetPath.getFileName() + TEMP_EXTENSION);
+        return download(fs, path.path(), tempPath)
+                .plug(u -> withRetry(u, tracker))
+                .invoke(tracker::fetched)
+                .chain(() -> Uni.createFrom()
+                        .completionStage(() -> vertx.get()
+                                .executeBlocking(() -> moveTempFile(path, tempPath, targetPath, manifest), false)
+                                .toCompletionStage()))
+                .invoke(written -> tracker.done(sizeOf(targetPath), written));
+    }
+
+    private Uni<Boolean> generateInProcess(FileSystem fs, RoqPathRenderer renderer, SelectedPath path,
+            Path targetPath, RoqGeneratorManifest manifest, RoqGeneratorReport.Tracker tracker) {
+        return render(renderer, path.path())
+                .plug(u -> withRetry(u, tracker))
+                .invoke(tracker::fetched)
+                .chain(r -> {
+                    final Buffer content = r != null ? r : Buffer.buffer();
+                    if (tracked() && manifest.track(path.outputPath(), content)) {
                         return Uni.createFrom()
-                                .completionStage(() -> fs.mkdirs(targetPath.getParent().toString()).toCompletionStage())
-                                .chain(() -> Uni.createFrom().completionStage(fs
-                                        .writeFile(targetPath.toString(), r != null ? r : Buffer.buffer()).toCompletionStage()))
-                                .invoke(() -> LOGGER.infof("Roq generated file %s", path.outputPath()));
-                    }));
+                                .completionStage(() -> fs.exists(targetPath.toString()).toCompletionStage())
+                                .chain(exists -> exists ? Uni.createFrom().item(false)
+                                        : writeFile(fs, targetPath, content))
+                                .invoke(written -> tracker.done(content.length(), written));
+                    }
+                    return writeFile(fs, targetPath, content)
+                            .invoke(written -> tracker.done(content.length(), written));
+                });
+    }
 
+    /**
+     * Failed attempts are retried immediately. With {@link RoqGeneratorConfig#collectFailures()}, each attempt is also
+     * limited by the request timeout and only HTTP server errors, timeouts and network errors are retried, with an
+     * exponential backoff (and jitter, to avoid retrying all the failed paths at the same time).
+     */
+    private <T> Uni<T> withRetry(Uni<T> attempt, RoqGeneratorReport.Tracker tracker) {
+        if (!config.collectFailures()) {
+            return attempt
+                    .onFailure().invoke(tracker::failed)
+                    .onFailure().retry().atMost(config.requestRetry());
+        }
+        final Uni<T> timed = attempt
+                .ifNoItem().after(config.requestTimeout()).fail()
+                .onFailure().invoke(tracker::failed);
+        if (config.requestRetryBackoff().isZero()) {
+            return timed.onFailure(RoqGenerator::isRetryable).retry().atMost(config.requestRetry());
         }
+        return timed.onFailure(RoqGenerator::isRetryable).retry()
+                .withBackOff(config.requestRetryBackoff(), MAX_RETRY_BACKOFF)
+                .withJitter(0.5)
+                .atMost(config.requestRetry());
+    }
 
-        return clearOutputDir(fs, outputDir)
-                .chain(this::pollRoqPing)
-                .chain(() -> Uni.join().all(all).andFailFast().map(l -> outputDir))
-                .ifNoItem().after(Duration.ofSeconds(config.timeout()))
-                .fail();
+    private static boolean isRetryable(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof RoqGeneratorHttpException e) {
+                return e.isServerError();
+            }
+            if (c instanceof TimeoutException || c instanceof SocketException || c instanceof SocketTimeoutException) {
+                return true;
+            }
+            if (c instanceof VertxException) {
+                // Connection errors, not the file system ones (e.g. a missing static file)
+                return !(c instanceof FileSystemException);
+            }
+        }
+        return false;
+    }
+
+    private static void logGenerated(SelectedPath path, boolean written) {
+        if (written) {
+            LOGGER.infof("Roq generated file %s", path.outputPath());
+        } else {
+            LOGGER.debugf("Roq skipped unchanged file %s", path.outputPath());
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return true if the file was written, false if it was unchanged
+     */
+    private boolean copyStaticFile(SelectedPath path, StaticFile staticFile, Path targetPath,
+            RoqGeneratorManifest manifest) throws IOException {
+        if (tracked()) {
+            final RoqGeneratorManifest.Entry entry;
+            try (InputStream in = openStaticFile(staticFile)) {
+                entry = RoqGeneratorManifest.entry(in != null ? in : InputStream.nullInputStream());
+            }
+            if (manifest.track(path.outputPath(), entry) && Files.exists(targetPath)) {
+                return false;
+            }
+        }
+        Files.createDirectories(targetPath.getParent());
+        if (staticFile.type() == FILE) {
+            final Path source = Path.of(staticFile.path());
+            if (config.staticFileCopy() == RoqGeneratorConfig.StaticFileCopy.LINK) {
+                Files.deleteIfExists(targetPath);
+                try {
+                    Files.createLink(targetPath, source);
+                    return true;
+                } catch (IOException | UnsupportedOperationException e) {
+                    // e.g. different file stores
+                    LOGGER.debugf("Roq couldn't link %s, falling back to copy: %s", path.outputPath(), e.toString());
+                }
+            }
+            // This uses the OS copy (zero-copy and cloning when supported by the file system)
+            Files.copy(source, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }
+        try (InputStream in = openStaticFile(staticFile)) {
+            Files.copy(in != null ? in : InputStream.nullInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return true;
+    }
+
+    private InputStream openStaticFile(StaticFile staticFile) throws IOException {
+        if (staticFile.type() == FILE) {
+            return Files.newInputStream(Path.of(staticFile.path()));
+        }
+        URL resource = getClassLoader().getResource(staticFile.path());
+        if (resource == null) {
+            LOGGER.warnf("The resource '%s' does not exist on classpath", staticFile.path());
+            return null;
+        }
+        return resource.openStream();
+    }
+
+    /**
+     * @return true if the file was written, false if it was unchanged
+     */
+    private boolean moveTempFile(SelectedPath path, Path tempPath, Path targetPath, RoqGeneratorManifest manifest)
+            throws IOException {
+        if (tracked()) {
+            final RoqGeneratorManifest.Entry entry;
+            try (InputStream in = Files.newInputStream(tempPath)) {
+                entry = RoqGeneratorManifest.entry(in);
+            }
+            if (manifest.track(path.outputPath(), entry) && Files.exists(targetPath)) {
+                Files.delete(tempPath);
+                return false;
+            }
+        }
+        try {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return true;
+    }
+
+    private static Uni<Boolean> writeFile(FileSystem fs, Path targetPath, Buffer content) {
+        return Uni.createFrom()
+                .completionStage(() -> fs.mkdirs(targetPath.getParent().toString()).toCompletionStage())
+                .chain(() -> Uni.createFrom().completionStage(fs
+                        .writeFile(targetPath.toString(), content).toCompletionStage()))
+                .replaceWith(true);
+    }
+
+    private Uni<RoqGeneratorManifest> prepareOutputDir(FileSystem fs, Path outputDir) {
+        if (sharded()) {
+            // Other shards may be writing in the same directory, stale files are removed when merging
+            if (!config.incremental()) {
+                return Uni.createFrom().item(RoqGeneratorManifest.empty());
+            }
+            return Uni.createFrom()
+                    .completionStage(() -> vertx.get().executeBlocking(() -> RoqGeneratorManifest.read(outputDir), false)
+                            .toCompletionStage())
+                    .map(manifest -> manifest != null ? manifest : RoqGeneratorManifest.empty());
+        }
+        if (!config.incremental()) {
+            return clearOutputDir(fs, outputDir).map(v -> RoqGeneratorManifest.empty());
+        }
+        return Uni.createFrom()
+                .completionStage(() -> vertx.get().executeBlocking(() -> RoqGeneratorManifest.read(outputDir), false)
+                        .toCompletionStage())
+                .chain(manifest -> {
+                    if (manifest == null) {
+                        // Without manifest, we can't know which files were generated
+                        return clearOutputDir(fs, outputDir).map(v -> RoqGeneratorManifest.empty());
+                    }
+                    return Uni.createFrom().item(manifest);
+                });
+    }
+
+    private Uni<Void> precompress(Path outputDir, RoqGeneratorManifest manifest) {
+        if (precompressor == null) {
+            return Uni.createFrom().voidItem();
+        }
+        final List<String> outputPaths = selectedPaths.stream().map(SelectedPath::outputPath).toList();
+        return Uni.createFrom()
+                .completionStage(() -> vertx.get()
+                        .executeBlocking(() -> precompressor.compress(outputDir, outputPaths, manifest), false)
+                        .toCompletionStage())
+                .invoke(count -> LOGGER.infof("Roq pre-compressed %d files", count))
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> writeReport(RoqGeneratorReport report) {
+        if (!config.report().enabled()) {
+            return Uni.createFrom().voidItem();
+        }
+        final Path reportFile = Path.of(ConfiguredPathsProvider.targetDir()).resolve(config.report().path())
+                .toAbsolutePath();
+        return Uni.createFrom()
+                .completionStage(() -> vertx.get().executeBlocking(() -> {
+                    report.write(reportFile);
+                    return null;
+                }, false).toCompletionStage())
+                .invoke(() -> LOGGER.infof("Roq generation report (%s):%n%s", reportFile,
+                        report.summary(config.report().top())))
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> completeOutputDir(Path outputDir, RoqGeneratorManifest manifest) {
+        if (sharded()) {
+            return Uni.createFrom()
+                    .completionStage(() -> vertx.get().executeBlocking(() -> {
+                        manifest.completeShard(outputDir, config.shardIndex());
+                        return null;
+                    }, false).toCompletionStage())
+                    .invoke(() -> LOGGER.infof("Roq shard %d/%d generation: %s", config.shardIndex() + 1,
+                            config.shardCount(), manifest.summary()))
+                    .replaceWithVoid();
+        }
+        if (!config.incremental()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom()
+                .completionStage(() -> vertx.get().executeBlocking(() -> {
+                    manifest.complete(outputDir);
+                    return null;
+                }, false).toCompletionStage())
+                .invoke(() -> LOGGER.infof("Roq incremental generation: %s", manifest.summary()))
+                .replaceWithVoid();
     }
 
     private static Uni<Void> clearOutputDir(FileSystem fs, Path outputDir) {
@@ -165,33 +620,58 @@ public class RoqGenerator implements Handler<RoutingContext> {
                         "Quarkus didn't start after 30 seconds (no response on '%s').".formatted(pingPath)));
     }
 
-    private Uni<Buffer> fetchContent(String path) {
-        if (staticFiles.containsKey(path)) {
-            final StaticFile staticFile = staticFiles.get(path);
-            if (staticFile.type().equals(FILE)) {
-                LOGGER.debugf("Roq is reading %s from file", path);
-                return Uni.createFrom().completionStage(() -> vertx.get().fileSystem().readFile(staticFile.path())
-                        .onComplete(r -> LOGGER.debugf("Roq successfully read file %s", path))
-                        .toCompletionStage());
-            } else if (staticFile.type().equals(CLASSPATH)) {
-                LOGGER.debugf("Roq is reading %s from classpath", path);
-                return Uni.createFrom().completionStage(
-                        () -> vertx.get().executeBlocking(() -> getClasspathResourceContent(staticFile.path()), false)
-                                .map(Buffer::buffer)
-                                .onComplete(r -> LOGGER.debugf("Roq successfully read %s on classpath", path))
-                                .toCompletionStage());
-            }
-        }
+    private static Uni<Buffer> render(RoqPathRenderer renderer, String path) {
+        LOGGER.debugf("Roq is rendering %s in-process", path);
+        return Uni.createFrom().completionStage(() -> renderer.render(path))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .onFailure().invoke(t -> LOGGER.errorf(t, "Roq rendering failed %s", path))
+                .invoke(r -> LOGGER.debugf("Roq rendering completed %s", path))
+                .map(Buffer::buffer);
+    }
 
+    /**
+     * Pipe the response body to the given file without buffering it in memory, the file is deleted on failure.
+     */
+    private Uni<Void> download(FileSystem fs, String path, Path file) {
         final String fullPath = encode(join(httpBuildTimeConfig.rootPath(), path));
         LOGGER.debugf("Roq is reading %s from http", fullPath);
-        return getSend(fullPath)
+        return Uni.createFrom()
+                .completionStage(() -> fs.mkdirs(file.getParent().toString())
+                        .compose(v -> fs.open(file.toString(),
+                                new OpenOptions().setWrite(true).setCreate(true).setTruncateExisting(true)))
+                        .compose(asyncFile -> get(fullPath)
+                                .as(BodyCodec.pipe(asyncFile))
+                                .send()
+                                .compose(response -> response.statusCode() == 200 ? Future.succeededFuture()
+                                        : Future.failedFuture(new RoqGeneratorHttpException(response.statusCode(), fullPath)))
+                                .onFailure(t -> asyncFile.close()))
+                        .toCompletionStage())
                 .onFailure().invoke(t -> LOGGER.errorf(t, "Roq request failed %s", fullPath))
+                .onFailure().call(() -> Uni.createFrom().completionStage(() -> fs.delete(file.toString())
+                        .otherwiseEmpty()
+                        .toCompletionStage()))
                 .invoke(r -> LOGGER.debugf("Roq request completed %s", fullPath))
-                .map(HttpResponse::bodyAsBuffer);
+                .replaceWithVoid();
+    }
+
+    private RoqPathRenderer renderer(String path) {
+        for (RoqPathRenderer renderer : renderers) {
+            if (renderer.handles(path)) {
+                return renderer;
+            }
+        }
+        return null;
     }
 
     private Uni<HttpResponse<Buffer>> getSend(String path) {
+        return Uni.createFrom().completionStage(() -> get(path)
+                .send()
+                .compose(response -> response.statusCode() == 200 ? Future.succeededFuture(response)
+                        : Future.failedFuture(new RoqGeneratorHttpException(response.statusCode(), path)))
+                .toCompletionStage());
+    }
+
+    private HttpRequest<Buffer> get(String path) {
         final String host;
         final int port;
         if (LaunchMode.current() == LaunchMode.TEST) {
@@ -201,10 +681,7 @@ public class RoqGenerator implements Handler<RoutingContext> {
             host = httpConfiguration.host();
             port = httpConfiguration.port();
         }
-        return Uni.createFrom().completionStage(() -> client().get(port, host, path)
-                .send()
-                .expecting(HttpResponseExpectation.status(200))
-                .toCompletionStage());
+        return client().get(port, host, path);
     }
 
     public static String encode(String p) {
@@ -225,22 +702,6 @@ public class RoqGenerator implements Handler<RoutingContext> {
 
     }
 
-    private byte[] getClasspathResourceContent(String resourceName) {
-        URL resource = getClassLoader().getResource(resourceName);
-        if (resource == null) {
-            LOGGER.warnf("The resource '%s' does not exist on classpath", resourceName);
-            return null;
-        }
-        try {
-            try (InputStream inputStream = resource.openStream()) {
-                return inputStream.readAllBytes();
-            }
-        } catch (IOException e) {
-            LOGGER.error("Error while reading file from Classpath for path " + resourceName, e);
-            return null;
-        }
-    }
-
     private ClassLoader getClassLoader() {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         if (cl == null) {
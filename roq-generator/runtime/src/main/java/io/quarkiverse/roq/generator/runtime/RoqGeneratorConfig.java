@@ -1,5 +1,6 @@
 package io.quarkiverse.roq.generator.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,6 +63,78 @@ public interface RoqGeneratorConfig {
     @WithDefault("false")
     boolean batch();
 
+    /**
+     * Render pages provided by Roq directly in the application instead of fetching them through HTTP.
+     * Other paths (e.g. REST endpoints) are still fetched through HTTP.
+     */
+    @WithDefault("false")
+    boolean inProcess();
+
+    /**
+     * Only write the files which changed since the previous generation and remove the ones which are not selected anymore
+     * (instead of clearing the output directory).
+     * A manifest with the hash and size of each generated file is kept in the output directory
+     * ({@value RoqGeneratorManifest#FILE_NAME}).
+     */
+    @WithDefault("false")
+    boolean incremental();
+
+    /**
+     * Maximum number of paths fetched and written concurrently during generation
+     */
+    @WithDefault("32")
+    int concurrency();
+
+    /**
+     * Split the generation across several processes (e.g. CI jobs), each one generating a disjoint slice of the selected
+     * paths (selected in round-robin from the sorted paths).
+     * Shards don't clear the output directory and write their own manifest, once all the shards are done (into the same
+     * directory or copied together), run with `merge-shards` to combine them.
+     */
+    @WithDefault("1")
+    int shardCount();
+
+    /**
+     * The index of the shard to generate, from 0 to `shard-count - 1`
+     */
+    @WithDefault("0")
+    int shardIndex();
+
+    /**
+     * Instead of generating, combine the shard manifests found in the output directory into the generation manifest
+     * and remove the files from the previous generation which are not part of any shard.
+     */
+    @WithDefault("false")
+    boolean mergeShards();
+
+    /**
+     * How static files from the file system are written to the output directory.
+     * The copy is done by the OS without loading files in memory (and cloned when the file system supports it).
+     * With `link`, a hard link to the source file is created when possible (same file system), which is the fastest
+     * but means that modifying an output file also modifies its source.
+     */
+    @WithDefault("copy")
+    StaticFileCopy staticFileCopy();
+
+    /**
+     * Write the generated files into a single archive (`<output-dir>.zip` or `<output-dir>.tar.gz` in the target
+     * directory) instead of a directory tree.
+     * Entries are written in path order with a fixed timestamp (`SOURCE_DATE_EPOCH` when set), so the archive is
+     * reproducible. Incremental generation, sharding and pre-compression are not available for archives.
+     */
+    @WithDefault("none")
+    Archive archive();
+
+    /**
+     * Pre-compression of the generated files
+     */
+    PrecompressConfig precompress();
+
+    /**
+     * Generation performance report
+     */
+    ReportConfig report();
+
     /**
      * Timeout for full generation in seconds
      */
@@ -69,8 +142,51 @@ public interface RoqGeneratorConfig {
     long timeout();
 
     /**
-     * How many times should a request be retried
+     * How many times should a request be retried (with {@link #collectFailures()}, only HTTP server errors, timeouts and
+     * network errors are retried)
      */
     @WithDefault("10")
     int requestRetry();
-}
\ No newline at end of file
+
+    /**
+     * Delay before the first retry of a failed request, it is doubled (with jitter) on each retry up to 5 seconds.
+     * Only used with {@link #collectFailures()}, failed requests are retried immediately otherwise.
+     */
+    @WithDefault("100ms")
+    Duration requestRetryBackoff();
+
+    /**
+     * Timeout for each request (or in-process rendering) attempt.
+     * Only used with {@link #collectFailures()}.
+     */
+    @WithDefault("30s")
+    Duration requestTimeout();
+
+    /**
+     * When a path fails (after retries), keep generating the other paths instead of stopping the generation.
+     * The failed paths are listed at the end and the generation still fails (non-zero exit code in batch mode).
+     */
+    @WithDefault("false")
+    boolean collectFailures();
+
+    enum Archive {
+        NONE(""),
+        ZIP(".zip"),
+        TAR_GZ(".tar.gz");
+
+        private final String extension;
+
+        Archive(String extension) {
+            this.extension = extension;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    enum StaticFileCopy {
+        COPY,
+        LINK
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkiverse.roq.generator.runtime;
+
+/**
+ * Thrown when the application responds to a generation request with an unexpected status.
+ */
+public class RoqGeneratorHttpException extends RuntimeException {
+
+    private final int statusCode;
+
+    public RoqGeneratorHttpException(int statusCode, String path) {
+        super("Unexpected response status %d for %s".formatted(statusCode, path));
+        this.statusCode = statusCode;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return true for server errors, which may succeed when retried
+     */
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+}
@@ -0,0 +1,288 @@
+package io.quarkiverse.roq.generator.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Keeps track of the generated files (output path → content hash and size) to allow incremental generation.
+ * <p>
+ * The manifest is stored in the output directory, unchanged files are not re-written (which preserves their mtime),
+ * and files from the previous generation which are not selected anymore are removed.
+ * When the generation is sharded, each shard writes its own manifest and the removal happens when merging them.
+ * <p>
+ * It also records the content hash of the files which have a pre-compressed sibling, so they are only compressed again
+ * when their content changes.
+ */
+public final class RoqGeneratorManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(RoqGeneratorManifest.class);
+
+    public static final String FILE_NAME = ".roq-manifest.json";
+    private static final String SHARD_FILE_PREFIX = ".roq-manifest.shard-";
+
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    private final Map<String, String> previousCompressed;
+    private final Map<String, String> compressed = new ConcurrentHashMap<>();
+    private final AtomicInteger added = new AtomicInteger();
+    private final AtomicInteger changed = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+    private final List<String> removed = new ArrayList<>();
+
+    RoqGeneratorManifest(Map<String, Entry> previous, Map<String, String> previousCompressed) {
+        this.previous = previous;
+        this.previousCompressed = previousCompressed;
+    }
+
+    public static RoqGeneratorManifest empty() {
+        return new RoqGeneratorManifest(Map.of(), Map.of());
+    }
+
+    /**
+     * @return the manifest found in the given output directory or null if there is none
+     */
+    public static RoqGeneratorManifest read(Path outputDir) throws IOException {
+        final Path file = outputDir.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        final JsonObject json = new JsonObject(Files.readString(file));
+        return new RoqGeneratorManifest(readEntries(json), readCompressed(json));
+    }
+
+    public static String shardFileName(int shardIndex) {
+        return SHARD_FILE_PREFIX + shardIndex + ".json";
+    }
+
+    /**
+     * Combine the shard manifests found in the output directory into the manifest, files from the previous manifest
+     * which are not part of any shard are removed.
+     *
+     * @return the merged manifest
+     */
+    public static RoqGeneratorManifest mergeShards(Path outputDir) throws IOException {
+        final List<Path> shards = new ArrayList<>();
+        try (DirectoryStream<Path> s = Files.newDirectoryStream(outputDir, SHARD_FILE_PREFIX + "*.json")) {
+            s.forEach(shards::add);
+        }
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("No Roq shard manifest found in " + outputDir);
+        }
+        final RoqGeneratorManifest previous = read(outputDir);
+        final RoqGeneratorManifest merged = previous != null
+                ? new RoqGeneratorManifest(previous.previous, previous.previousCompressed)
+                : empty();
+        for (Path shard : shards) {
+            final JsonObject json = new JsonObject(Files.readString(shard));
+            merged.compressed.putAll(readCompressed(json));
+            for (Map.Entry<String, Entry> e : readEntries(json).entrySet()) {
+                final Entry existing = merged.current.get(e.getKey());
+                if (existing != null && !existing.equals(e.getValue())) {
+                    LOGGER.warnf("Roq file %s was generated differently by multiple shards", e.getKey());
+                }
+                merged.track(e.getKey(), e.getValue());
+            }
+        }
+        merged.complete(outputDir);
+        for (Path shard : shards) {
+            Files.delete(shard);
+        }
+        return merged;
+    }
+
+    private static Map<String, Entry> readEntries(JsonObject json) {
+        final JsonObject files = json.getJsonObject("files", new JsonObject());
+        final Map<String, Entry> entries = new TreeMap<>();
+        for (String outputPath : files.fieldNames()) {
+            final JsonObject e = files.getJsonObject(outputPath);
+            entries.put(outputPath, new Entry(e.getString("hash"), e.getLong("size")));
+        }
+        return entries;
+    }
+
+    private static Map<String, String> readCompressed(JsonObject json) {
+        final JsonObject files = json.getJsonObject("compressed", new JsonObject());
+        final Map<String, String> compressed = new TreeMap<>();
+        for (String outputPath : files.fieldNames()) {
+            compressed.put(outputPath, files.getString(outputPath));
+        }
+        return compressed;
+    }
+
+    /**
+     * Record the content generated for an output path.
+     *
+     * @return true if the content is identical to the previous generation
+     */
+    public boolean track(String outputPath, Buffer content) {
+        return track(outputPath, new Entry(hash(content), content.length()));
+    }
+
+    /**
+     * Record the content generated for an output path.
+     *
+     * @return true if the content is identical to the previous generation
+     */
+    public boolean track(String outputPath, Entry entry) {
+        current.put(outputPath, entry);
+        final Entry prev = previous.get(outputPath);
+        if (prev == null) {
+            added.incrementAndGet();
+            return false;
+        }
+        if (prev.equals(entry)) {
+            unchanged.incrementAndGet();
+            return true;
+        }
+        changed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Keep the previous entry for an output path which failed to be generated, so that its file is not removed.
+     */
+    public void retain(String outputPath) {
+        final Entry prev = previous.get(outputPath);
+        if (prev != null) {
+            current.put(outputPath, prev);
+            final String prevCompressed = previousCompressed.get(outputPath);
+            if (prevCompressed != null) {
+                compressed.put(outputPath, prevCompressed);
+            }
+        }
+    }
+
+    /**
+     * @return true if the pre-compressed sibling of the output path was made from its current content (same hash)
+     */
+    public boolean isCompressed(String outputPath) {
+        final Entry entry = current.get(outputPath);
+        return entry != null && entry.hash().equals(previousCompressed.get(outputPath));
+    }
+
+    /**
+     * Record that the output path has a pre-compressed sibling made from its current content, nothing is recorded if
+     * the content is not tracked.
+     */
+    public void compressed(String outputPath) {
+        final Entry entry = current.get(outputPath);
+        if (entry != null) {
+            compressed.put(outputPath, entry.hash());
+        }
+    }
+
+    /**
+     * Remove the files from the previous generation which were not generated this time and write the new manifest.
+     */
+    public void complete(Path outputDir) throws IOException {
+        for (String outputPath : previous.keySet()) {
+            if (current.containsKey(outputPath)) {
+                continue;
+            }
+            final Path file = outputDir.resolve(outputPath);
+            if (Files.deleteIfExists(file)) {
+                LOGGER.debugf("Roq removed file %s", outputPath);
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + RoqPrecompressor.GZIP_EXTENSION));
+                deleteEmptyParents(outputDir, file.getParent());
+            }
+            removed.add(outputPath);
+        }
+        write(outputDir.resolve(FILE_NAME));
+    }
+
+    /**
+     * Write the manifest of the files generated by a shard, without removing anything.
+     */
+    public void completeShard(Path outputDir, int shardIndex) throws IOException {
+        write(outputDir.resolve(shardFileName(shardIndex)));
+    }
+
+    public int size() {
+        return current.size();
+    }
+
+    private void write(Path file) throws IOException {
+        final JsonObject files = new JsonObject();
+        for (Map.Entry<String, Entry> e : new TreeMap<>(current).entrySet()) {
+            files.put(e.getKey(), new JsonObject()
+                    .put("hash", e.getValue().hash())
+                    .put("size", e.getValue().size()));
+        }
+        final JsonObject compressedFiles = new JsonObject();
+        new TreeMap<>(compressed).forEach(compressedFiles::put);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, new JsonObject()
+                .put("files", files)
+                .put("compressed", compressedFiles)
+                .encodePrettily());
+    }
+
+    public String summary() {
+        return "%d added, %d changed, %d unchanged, %d removed".formatted(added.get(), changed.get(), unchanged.get(),
+                removed.size());
+    }
+
+    public List<String> removed() {
+        return removed;
+    }
+
+    private static void deleteEmptyParents(Path outputDir, Path dir) throws IOException {
+        while (dir != null && !dir.equals(outputDir) && dir.startsWith(outputDir)) {
+            try (DirectoryStream<Path> s = Files.newDirectoryStream(dir)) {
+                if (s.iterator().hasNext()) {
+                    return;
+                }
+            }
+            Files.delete(dir);
+            dir = dir.getParent();
+        }
+    }
+
+    /**
+     * Compute the entry for the given content, the stream is consumed without loading it in memory.
+     */
+    public static Entry entry(InputStream content) throws IOException {
+        final MessageDigest digest = digest();
+        final long size;
+        try (DigestInputStream in = new DigestInputStream(content, digest)) {
+            size = in.transferTo(OutputStream.nullOutputStream());
+        }
+        return new Entry(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    static String hash(Buffer content) {
+        final MessageDigest digest = digest();
+        digest.update(content.getBytes());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Entry(String hash, long size) {
+    }
+}
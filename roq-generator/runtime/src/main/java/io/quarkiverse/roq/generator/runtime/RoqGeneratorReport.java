@@ -0,0 +1,177 @@
+package io.quarkiverse.roq.generator.runtime;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkiverse.roq.generator.runtime.StaticFile.FetchType;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Collects the timings of each generated path, to find out which pages dominate the generation time.
+ */
+public final class RoqGeneratorReport {
+
+    private final Queue<PathReport> paths = new ConcurrentLinkedQueue<>();
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+    private final long start = System.nanoTime();
+
+    public Tracker track(SelectedPath path, Source source) {
+        return new Tracker(path, source);
+    }
+
+    public List<PathReport> paths() {
+        return List.copyOf(paths);
+    }
+
+    public List<Failure> failures() {
+        return failures.stream().sorted(Comparator.comparing(Failure::outputPath)).toList();
+    }
+
+    public String summary(int top) {
+        final List<PathReport> sorted = paths.stream().sorted(Comparator.comparingDouble(PathReport::totalMs)).toList();
+        final StringBuilder sb = new StringBuilder();
+        sb.append("%d paths in %.0fms (p50: %.1fms, p95: %.1fms, p99: %.1fms, retries: %d)".formatted(
+                sorted.size(), millis(System.nanoTime() - start),
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.stream().mapToInt(PathReport::retries).sum()));
+        if (!sorted.isEmpty() && top > 0) {
+            sb.append("\nSlowest paths:");
+            for (int i = sorted.size() - 1; i >= Math.max(0, sorted.size() - top); i--) {
+                final PathReport p = sorted.get(i);
+                sb.append("\n  %8.1fms  %-11s %s".formatted(p.totalMs(), p.type(), p.path()));
+            }
+        }
+        if (!failures.isEmpty()) {
+            sb.append("\nFailed paths: ").append(failures.size());
+        }
+        return sb.toString();
+    }
+
+    public void write(Path file) throws IOException {
+        final JsonArray array = new JsonArray();
+        paths.stream().sorted(Comparator.comparing(PathReport::outputPath)).forEach(p -> array.add(new JsonObject()
+                .put("path", p.path())
+                .put("outputPath", p.outputPath())
+                .put("type", p.type().name())
+                .put("fetchMs", p.fetchMs())
+                .put("totalMs", p.totalMs())
+                .put("bytes", p.bytes())
+                .put("written", p.written())
+                .put("retries", p.retries())));
+        final JsonArray failed = new JsonArray();
+        failures().forEach(f -> failed.add(new JsonObject()
+                .put("path", f.path())
+                .put("outputPath", f.outputPath())
+                .put("type", f.type().name())
+                .put("statusCode", f.statusCode())
+                .put("error", f.error())
+                .put("attempts", f.attempts())));
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, new JsonObject()
+                .put("totalMs", millis(System.nanoTime() - start))
+                .put("paths", array)
+                .put("failures", failed)
+                .encodePrettily());
+    }
+
+    private static Integer statusCode(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof RoqGeneratorHttpException e) {
+                return e.statusCode();
+            }
+        }
+        return null;
+    }
+
+    private static double percentile(List<PathReport> sorted, double q) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        final int index = (int) Math.ceil(q * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)).totalMs();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Where the content of a path comes from
+     */
+    public enum Source {
+        FILE,
+        CLASSPATH,
+        HTTP,
+        /**
+         * Rendered directly in the application (see {@link RoqGeneratorConfig#inProcess()})
+         */
+        IN_PROCESS;
+
+        public static Source of(FetchType type) {
+            return switch (type) {
+                case FILE -> FILE;
+                case CLASSPATH -> CLASSPATH;
+                case HTTP -> HTTP;
+            };
+        }
+    }
+
+    public final class Tracker {
+        private final SelectedPath path;
+        private final Source type;
+        private final AtomicInteger retries = new AtomicInteger();
+        private final long start = System.nanoTime();
+        private volatile long fetched;
+
+        private Tracker(SelectedPath path, Source type) {
+            this.path = path;
+            this.type = type;
+        }
+
+        public void failed() {
+            retries.incrementAndGet();
+        }
+
+        public void fetched() {
+            fetched = System.nanoTime();
+        }
+
+        /**
+         * The path couldn't be generated (after retries)
+         */
+        public void error(Throwable t) {
+            failures.add(new Failure(path.path(), path.outputPath(), type, statusCode(t), String.valueOf(t),
+                    retries.get()));
+        }
+
+        public void done(long bytes, boolean written) {
+            final long end = System.nanoTime();
+            paths.add(new PathReport(path.path(), path.outputPath(), type,
+                    millis((fetched == 0 ? end : fetched) - start), millis(end - start), bytes, written,
+                    retries.get()));
+        }
+    }
+
+    /**
+     * @param fetchMs the time to fetch (or render) the content
+     * @param totalMs the time to fetch and write the content
+     * @param retries the number of failed attempts
+     */
+    public record PathReport(String path, String outputPath, Source type, double fetchMs, double totalMs, long bytes,
+            boolean written, int retries) {
+    }
+
+    /**
+     * @param statusCode the HTTP status code of the response, if any
+     * @param attempts the number of failed attempts
+     */
+    public record Failure(String path, String outputPath, Source type, Integer statusCode, String error, int attempts) {
+    }
+}
@@ -0,0 +1,99 @@
+package io.quarkiverse.roq.generator.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.http.impl.MimeMapping;
+
+/**
+ * Writes pre-compressed siblings for the compressible generated files.
+ * <p>
+ * With a tracked generation (incremental or sharded), a sibling is kept as long as the content hash recorded in the
+ * manifest is unchanged.
+ */
+final class RoqPrecompressor {
+
+    private static final Logger LOGGER = Logger.getLogger(RoqPrecompressor.class);
+
+    static final String GZIP_EXTENSION = ".gz";
+
+    private final Set<String> mediaTypes;
+    private final int minSize;
+
+    RoqPrecompressor(Set<String> mediaTypes, int minSize) {
+        this.mediaTypes = mediaTypes;
+        this.minSize = minSize;
+    }
+
+    /**
+     * Compress the given files in parallel, this is blocking.
+     *
+     * @return the number of compressed files
+     */
+    int compress(Path outputDir, List<String> outputPaths, RoqGeneratorManifest manifest) {
+        final AtomicInteger count = new AtomicInteger();
+        outputPaths.parallelStream()
+                .filter(this::isCompressible)
+                .forEach(outputPath -> {
+                    try {
+                        if (compress(outputDir.resolve(outputPath), outputPath, manifest)) {
+                            count.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error while compressing " + outputPath, e);
+                    }
+                });
+        return count.get();
+    }
+
+    boolean isCompressible(String outputPath) {
+        final String contentType = MimeMapping.getMimeTypeForFilename(outputPath);
+        return contentType != null && mediaTypes.contains(contentType);
+    }
+
+    private boolean compress(Path file, String outputPath, RoqGeneratorManifest manifest) throws IOException {
+        final Path target = file.resolveSibling(file.getFileName() + GZIP_EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        final long size = Files.size(file);
+        if (size < minSize) {
+            Files.deleteIfExists(target);
+            return false;
+        }
+        if (manifest.isCompressed(outputPath) && Files.isRegularFile(target)) {
+            // Unchanged since the previous generation
+            manifest.compressed(outputPath);
+            return false;
+        }
+        try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(target))) {
+            Files.copy(file, out);
+        }
+        if (Files.size(target) >= size) {
+            // Not worth it
+            Files.delete(target);
+            return false;
+        }
+        manifest.compressed(outputPath);
+        LOGGER.debugf("Roq compressed file %s", file);
+        return true;
+    }
+
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 64 * 1024);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
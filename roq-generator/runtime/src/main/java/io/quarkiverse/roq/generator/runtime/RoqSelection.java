@@ -1,5 +1,6 @@
 package io.quarkiverse.roq.generator.runtime;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -15,4 +16,24 @@ public record RoqSelection(List<SelectedPath> paths) {
                 .sorted(Comparator.comparing(SelectedPath::outputPath)).toList();
     }
 
+    /**
+     * Select the slice of the prepared paths for the given shard, paths are distributed in round-robin so that heavy
+     * sections (e.g. all the posts) are spread across shards.
+     */
+    public static List<SelectedPath> shard(List<SelectedPath> paths, int shardIndex, int shardCount) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    "Invalid Roq generator shard %d/%d, shard-index must be between 0 and shard-count - 1"
+                            .formatted(shardIndex, shardCount));
+        }
+        if (shardCount == 1) {
+            return paths;
+        }
+        final List<SelectedPath> result = new ArrayList<>(paths.size() / shardCount + 1);
+        for (int i = shardIndex; i < paths.size(); i += shardCount) {
+            result.add(paths.get(i));
+        }
+        return List.copyOf(result);
+    }
+
 }
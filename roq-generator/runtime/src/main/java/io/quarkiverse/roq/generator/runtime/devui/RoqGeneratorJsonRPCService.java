@@ -1,5 +1,7 @@
 package io.quarkiverse.roq.generator.runtime.devui;
 
+import static io.quarkiverse.tools.stringpaths.StringPaths.toUnixPath;
+
 import java.util.List;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -37,7 +39,7 @@ public class RoqGeneratorJsonRPCService {
     }
 
     public Uni<String> generate() {
-        return generator.generate().map(a -> generator.outputDir());
+        return generator.generate().map(p -> toUnixPath(p.toString()));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package io.quarkiverse.roq;
+
+import io.quarkiverse.roq.testing.RoqAndRoll;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@RoqAndRoll
+@TestProfile(RoqAndRollInProcessTest.RoqAndRollInProcessProfile.class)
+public class RoqAndRollInProcessTest extends AbstractRoqTest {
+
+    public static class RoqAndRollInProcessProfile implements QuarkusTestProfile {
+        @Override
+        public String getConfigProfile() {
+            return "roq-and-roll,in-process";
+        }
+    }
+}